@@ -0,0 +1,18 @@
+package com.paytr.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * {@link HomePageBenchmark} ölçümlerinin async-logging profilindeki Log4J ayarlarıyla tekrarı.
+ * İki sınıfın sonuçları karşılaştırılarak loglamanın sayfa işlemlerine eklediği gecikme görülebilir.
+ */
+@Fork(value = 1, jvmArgsAppend = {
+        "-Dbrowser.profile=throughput",
+        "-Dlog4j2.contextSelector=org.apache.logging.log4j.core.async.AsyncLoggerContextSelector",
+        "-Dlog4j2.enableThreadlocals=true",
+        "-Dlog4j2.enableDirectEncoders=true",
+        "-Dlog4j2.garbagefreeThreadContextMap=true",
+        "-Dlog.immediateFlush=false"
+})
+public class AsyncLoggingHomePageBenchmark extends HomePageBenchmark {
+}
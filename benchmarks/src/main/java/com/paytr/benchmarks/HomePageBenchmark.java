@@ -0,0 +1,97 @@
+package com.paytr.benchmarks;
+
+import com.paytr.driver.DriverFactory;
+import com.paytr.fixture.StaticSiteServer;
+import com.paytr.pages.HomePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HomePage} işlemlerinin yerel fixture sitesi üzerinde, headless Chrome ile ölçümü.
+ * Her fork kendi gömülü HTTP sunucusunu ve Chrome oturumunu başlatır; ağ erişimi gerekmez.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Dbrowser.profile=throughput"})
+@State(Scope.Thread)
+public class HomePageBenchmark {
+
+    private StaticSiteServer site;
+    private WebDriver driver;
+    private HomePage homePage;
+    private String homeUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        site = StaticSiteServer.start("fixture-site");
+        homeUrl = site.url("/");
+        driver = DriverFactory.createChromeDriver();
+        driver.get(homeUrl);
+        homePage = new HomePage(driver);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (site != null) {
+            site.close();
+        }
+    }
+
+    /**
+     * Her çağrıdan önce slider'ı ilk karta döndürür; böylece her ölçüm aynı geçişi (1 -> 2) kapsar.
+     */
+    @State(Scope.Thread)
+    public static class SliderAtStart {
+
+        @Setup(Level.Invocation)
+        public void reset(HomePageBenchmark benchmark) {
+            ((JavascriptExecutor) benchmark.driver).executeScript("window.__resetSlider();");
+        }
+    }
+
+    @Benchmark
+    public void slideRight(SliderAtStart sliderAtStart) {
+        homePage.slideRight(1);
+    }
+
+    @Benchmark
+    public Map<String, Boolean> visibilityBatched() {
+        return homePage.getAdditionalElementVisibility();
+    }
+
+    @Benchmark
+    public void visibilityPerElement(Blackhole blackhole) {
+        blackhole.consume(homePage.isProductManagementVisible());
+        blackhole.consume(homePage.isForDevelopersVisible());
+        blackhole.consume(homePage.isWhyChooseUsVisible());
+        blackhole.consume(homePage.isBusinessPartnersVisible());
+        blackhole.consume(homePage.isFAQSectionVisible());
+    }
+
+    @Benchmark
+    public boolean verifyCurrentUrl() {
+        return homePage.verifyCurrentUrl(homeUrl);
+    }
+}
@@ -0,0 +1,74 @@
+package com.paytr.benchmarks;
+
+import com.paytr.pages.HomePage;
+import com.paytr.pages.PayWithLinks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sayfa nesnesi oluşturma maliyetinin ölçümü. Testler her {@code @BeforeEach} içinde yeni sayfa nesnesi
+ * oluşturduğundan bu maliyet her test metodunda ödenir. Oluşturma sırasında tarayıcıya gidilmediği için
+ * hiçbir çağrıya yanıt vermeyen sahte bir WebDriver kullanılır; Chrome başlatılmaz.
+ * legacy* metotları, önceki constructor'ın yaptığı PageFactory.initElements ve WebDriverWait oluşturmayı ekler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PageConstructionBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private WebDriver driver;
+
+    @Setup
+    public void setUp() {
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> null);
+    }
+
+    @Benchmark
+    public HomePage homePage() {
+        return new HomePage(driver);
+    }
+
+    @Benchmark
+    public PayWithLinks payWithLinks() {
+        return new PayWithLinks(driver);
+    }
+
+    @Benchmark
+    public void legacyHomePage(Blackhole blackhole) {
+        HomePage page = new HomePage(driver);
+        blackhole.consume(new WebDriverWait(driver, TIMEOUT));
+        PageFactory.initElements(driver, page);
+        blackhole.consume(page);
+    }
+
+    @Benchmark
+    public void legacyPayWithLinks(Blackhole blackhole) {
+        PayWithLinks page = new PayWithLinks(driver);
+        blackhole.consume(new WebDriverWait(driver, TIMEOUT));
+        PageFactory.initElements(driver, page);
+        blackhole.consume(page);
+    }
+}
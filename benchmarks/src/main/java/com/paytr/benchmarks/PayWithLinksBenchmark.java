@@ -0,0 +1,81 @@
+package com.paytr.benchmarks;
+
+import com.paytr.driver.DriverFactory;
+import com.paytr.fixture.StaticSiteServer;
+import com.paytr.pages.PayWithLinks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Linkle Ödeme" formunun doldurulmasının yerel fixture sitesi üzerinde, headless Chrome ile ölçümü.
+ * fillForm tuş vuruşlu (varsayılan) yolu, fillFields ise {@code -Dform.fill=fast} ile kullanılan toplu yolu ölçer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Dbrowser.profile=throughput"})
+@State(Scope.Thread)
+public class PayWithLinksBenchmark {
+
+    private static final Set<By> KEYSTROKE_FIELDS = Collections.singleton(PayWithLinks.PHONE_INPUT);
+
+    private StaticSiteServer site;
+    private WebDriver driver;
+    private PayWithLinks payWithLinks;
+    private Map<By, String> formValues;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        site = StaticSiteServer.start("fixture-site");
+        driver = DriverFactory.createChromeDriver();
+        driver.get(site.url("/linkle-odeme"));
+        payWithLinks = new PayWithLinks(driver);
+
+        formValues = new LinkedHashMap<>();
+        formValues.put(PayWithLinks.FIRST_NAME_INPUT, "Ahmet");
+        formValues.put(PayWithLinks.SURNAME_INPUT, "Yılmaz");
+        formValues.put(PayWithLinks.EMAIL_INPUT, "ahmet.yilmaz@example.com");
+        formValues.put(PayWithLinks.WEBSITE_INPUT, "https://example.com");
+        formValues.put(PayWithLinks.PHONE_INPUT, "5551234567");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        if (site != null) {
+            site.close();
+        }
+    }
+
+    @Benchmark
+    public void fillForm() {
+        payWithLinks.fillForm("Ahmet", "Yılmaz", "ahmet.yilmaz@example.com", "https://example.com", "5551234567");
+    }
+
+    @Benchmark
+    public void fillFields() {
+        payWithLinks.fillFields(formValues, KEYSTROKE_FIELDS);
+    }
+}
@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Runs the suite in N parallel JVMs, balanced by the durations in shard-timings.properties,
+# then merges the surefire reports into target/surefire-reports and updates the durations.
+#
+# Usage: scripts/run-shards.sh [shard count] [extra Maven arguments...]
+#   scripts/run-shards.sh 4 -Dsite.mode=replay -Dbrowser.profile=throughput
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COUNT="${1:-2}"
+if [ "$#" -gt 0 ]; then
+  shift
+fi
+SHARD_DIR=target/shards
+CPUS=$(getconf _NPROCESSORS_ONLN 2>/dev/null || echo 2)
+POOL=$(( CPUS / COUNT ))
+if [ "$POOL" -lt 1 ]; then
+  POOL=1
+fi
+
+mvn -B -q test-compile "$@"
+rm -rf "$SHARD_DIR"
+mkdir -p "$SHARD_DIR"
+
+pids=()
+for i in $(seq 1 "$COUNT"); do
+  mvn -B surefire:test \
+    -Dshard.index="$i" -Dshard.count="$COUNT" -Dshard.dir="$SHARD_DIR" \
+    -Dshard.reportsDirectory="$SHARD_DIR/shard-$i/surefire-reports" \
+    -Dmetrics.dir="$SHARD_DIR/shard-$i/metrics" \
+    -Dlog.dir="$SHARD_DIR/shard-$i/logs" \
+    -Ddriver.pool.size="$POOL" \
+    "$@" > "$SHARD_DIR/shard-$i.log" 2>&1 &
+  pids+=("$!")
+done
+
+status=0
+for i in "${!pids[@]}"; do
+  if ! wait "${pids[$i]}"; then
+    echo "Shard $((i + 1))/$COUNT failed, see $SHARD_DIR/shard-$((i + 1)).log"
+    status=1
+  fi
+done
+
+java -cp target/test-classes com.paytr.tests.shard.ShardReportMerger \
+  "$SHARD_DIR" shard-timings.properties target/surefire-reports
+exit "$status"
@@ -0,0 +1,443 @@
+package com.paytr.artifacts;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Hata anında tarayıcının durumunu (ekran görüntüsü, sayfa kaynağı, konsol logları, HAR biçiminde ağ özeti)
+ * toplayıp arka planda sıkıştırılmış olarak diske yazan yardımcı.
+ *
+ * <ul>
+ *     <li>Hata veren thread yalnızca ham verileri tarayıcıdan okur; PNG çözme, HAR oluşturma, sıkıştırma ve yazma
+ *     tek bir arka plan thread'inde yapılır.</li>
+ *     <li>Kuyruk sınırlıdır ({@code -Dartifacts.queue}, varsayılan: 8); doluysa yeni kayıt beklemeden atılır.</li>
+ *     <li>{@code -Dartifacts.dir} (varsayılan: target/failure-artifacts) dizini {@code -Dartifacts.maxMb}
+ *     (varsayılan: 200) sınırını aşınca en eski kullanılan (en eski yazılan) arşivler silinir.</li>
+ *     <li>Aynı hata birden fazla katmanda yakalanırsa (ör. sayfa aksiyonu ve test) yalnızca bir kez kaydedilir.</li>
+ * </ul>
+ *
+ * {@code -Dartifacts.enabled=false} ile kapatılır.
+ */
+public final class FailureArtifacts {
+
+    private static final Logger logger = LogManager.getLogger(FailureArtifacts.class);
+    private static final FailureArtifacts INSTANCE = new FailureArtifacts();
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("artifacts.enabled", "true"));
+    private static final Path DIRECTORY = Paths.get(System.getProperty("artifacts.dir", "target/failure-artifacts"));
+    private static final long MAX_BYTES = Long.getLong("artifacts.maxMb", 200) * 1024 * 1024;
+    private static final int QUEUE_CAPACITY = Integer.getInteger("artifacts.queue", 8);
+    private static final int MAX_NETWORK_ENTRIES = 300;
+    private static final int MAX_CONSOLE_ENTRIES = 500;
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+    private static final Object END_OF_QUEUE = new Object();
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    /**
+     * Son {@value #MAX_NETWORK_ENTRIES} navigasyon ve kaynak yüklemesinin Resource Timing verileri.
+     */
+    private static final String NETWORK_SCRIPT =
+            "var entries = performance.getEntriesByType('navigation')" +
+                    "  .concat(performance.getEntriesByType('resource')).slice(-arguments[0]);" +
+                    "function span(from, to) { return from > 0 && to >= from ? to - from : -1; }" +
+                    "return {origin: performance.timeOrigin, entries: entries.map(function (e) {" +
+                    "  return {url: e.name, type: e.initiatorType || e.entryType, start: e.startTime," +
+                    "    duration: e.duration, dns: span(e.domainLookupStart, e.domainLookupEnd)," +
+                    "    connect: span(e.connectStart, e.connectEnd), ssl: span(e.secureConnectionStart, e.connectEnd)," +
+                    "    wait: span(e.requestStart, e.responseStart), receive: span(e.responseStart, e.responseEnd)," +
+                    "    status: e.responseStatus || 0, transferSize: e.transferSize || 0," +
+                    "    bodySize: e.encodedBodySize || 0, protocol: e.nextHopProtocol || ''};" +
+                    "})};";
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Set<Throwable> captured = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<Throwable, Boolean>()));
+    private final Deque<Path> files = new ArrayDeque<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long totalBytes;
+    private Thread writer;
+
+    private FailureArtifacts() {
+    }
+
+    public static FailureArtifacts getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tarayıcının konsol loglarını saklamasını sağlar; oturum başlatılmadan önce çağrılır.
+     */
+    public void configure(ChromeOptions options) {
+        if (!ENABLED) {
+            return;
+        }
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability("goog:loggingPrefs", logging);
+    }
+
+    /**
+     * Oturumun mevcut durumunu okuyup yazma kuyruğuna ekler. Hiçbir koşulda hata fırlatmaz ve diske yazmayı beklemez.
+     *
+     * @param reason arşiv adında ve özetinde kullanılacak kısa açıklama (ör. aksiyon ve locator)
+     * @param cause  hatanın kendisi; aynı hata (veya onu sebep olarak taşıyan hata) ikinci kez kaydedilmez
+     */
+    public void capture(WebDriver driver, String reason, Throwable cause) {
+        if (!ENABLED || driver == null || isCaptured(cause)) {
+            return;
+        }
+        long start = System.nanoTime();
+        Capture capture = new Capture(reason, cause);
+        try {
+            capture.url = driver.getCurrentUrl();
+        } catch (RuntimeException e) {
+            capture.notes.add("URL: " + e.getClass().getSimpleName());
+        }
+        if (driver instanceof TakesScreenshot) {
+            try {
+                capture.screenshotBase64 = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+            } catch (RuntimeException e) {
+                capture.notes.add("Screenshot: " + e.getClass().getSimpleName());
+            }
+        }
+        try {
+            capture.pageSource = driver.getPageSource();
+        } catch (RuntimeException e) {
+            capture.notes.add("Page source: " + e.getClass().getSimpleName());
+        }
+        try {
+            List<LogEntry> entries = driver.manage().logs().get(LogType.BROWSER).getAll();
+            capture.console = new ArrayList<>(entries.subList(Math.max(0, entries.size() - MAX_CONSOLE_ENTRIES),
+                    entries.size()));
+        } catch (RuntimeException e) {
+            capture.notes.add("Console log: " + e.getClass().getSimpleName());
+        }
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                capture.network = ((JavascriptExecutor) driver).executeScript(NETWORK_SCRIPT, MAX_NETWORK_ENTRIES);
+            } catch (RuntimeException e) {
+                capture.notes.add("Network: " + e.getClass().getSimpleName());
+            }
+        }
+
+        startWriter();
+        long captureMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (queue.offer(capture)) {
+            logger.info("Captured failure artifacts for {} in {} ms, writing in background.", reason, captureMs);
+        } else {
+            dropped.incrementAndGet();
+            logger.warn("Failure artifact queue is full, dropped artifacts for {}.", reason);
+        }
+    }
+
+    /**
+     * Kuyruktaki arşivlerin yazılmasını bekler ve özet loglar. Koşunun sonunda çağrılır.
+     */
+    public void close() {
+        Thread current;
+        synchronized (this) {
+            current = writer;
+            writer = null;
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            queue.put(END_OF_QUEUE);
+            current.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Failure artifacts: {} written to {}, {} evicted to stay under {} MB, {} dropped.", written.get(),
+                DIRECTORY, evicted.get(), MAX_BYTES / (1024 * 1024), dropped.get());
+    }
+
+    /**
+     * Hatanın kendisi veya sebep zincirindeki bir hata daha önce kaydedildiyse true döner; değilse işaretler.
+     */
+    private boolean isCaptured(Throwable cause) {
+        if (cause == null) {
+            return false;
+        }
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (captured.contains(current)) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        captured.add(cause);
+        return false;
+    }
+
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        writer = new Thread(this::writeLoop, "failure-artifact-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void writeLoop() {
+        try {
+            Files.createDirectories(DIRECTORY);
+            indexExistingFiles();
+        } catch (IOException e) {
+            logger.warn("Could not prepare failure artifact directory {}", DIRECTORY, e);
+        }
+        while (true) {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (item == END_OF_QUEUE) {
+                return;
+            }
+            Capture capture = (Capture) item;
+            try {
+                Path file = write(capture);
+                written.incrementAndGet();
+                logger.info("Wrote failure artifacts for {} to {}", capture.reason, file);
+                enforceBudget();
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to write failure artifacts for {}", capture.reason, e);
+            }
+        }
+    }
+
+    private Path write(Capture capture) throws IOException {
+        String name = FILE_TIMESTAMP.format(capture.timestamp) + "-" + sanitize(capture.test != null
+                ? capture.test : capture.reason) + "-" + sequence.incrementAndGet() + ".zip";
+        Path file = DIRECTORY.resolve(name);
+        Path temp = DIRECTORY.resolve(name + ".tmp");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(temp))) {
+            putEntry(zip, "error.txt", describe(capture).getBytes(StandardCharsets.UTF_8));
+            if (capture.screenshotBase64 != null) {
+                putEntry(zip, "screenshot.png", Base64.getDecoder().decode(capture.screenshotBase64));
+            }
+            if (capture.pageSource != null) {
+                putEntry(zip, "page.html", capture.pageSource.getBytes(StandardCharsets.UTF_8));
+            }
+            if (capture.console != null) {
+                StringBuilder console = new StringBuilder();
+                for (LogEntry entry : capture.console) {
+                    console.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                            .append(entry.getLevel()).append(' ').append(entry.getMessage()).append('\n');
+                }
+                putEntry(zip, "console.log", console.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            if (capture.network instanceof Map) {
+                putEntry(zip, "network.har", new Json().toJson(toHar((Map<?, ?>) capture.network, capture.url))
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        synchronized (files) {
+            files.addLast(file);
+            totalBytes += Files.size(file);
+        }
+        return file;
+    }
+
+    /**
+     * Toplam boyut sınırı aşıldıkça en eski arşivi siler; en son yazılan arşiv her zaman tutulur.
+     */
+    private void enforceBudget() {
+        synchronized (files) {
+            while (totalBytes > MAX_BYTES && files.size() > 1) {
+                Path oldest = files.removeFirst();
+                try {
+                    long size = Files.size(oldest);
+                    Files.delete(oldest);
+                    totalBytes -= size;
+                    evicted.incrementAndGet();
+                } catch (IOException e) {
+                    logger.warn("Could not evict failure artifact {}", oldest, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Önceki koşulardan kalan arşivleri değiştirilme zamanına göre sıraya ekler; bütçe onları da kapsar.
+     */
+    private void indexExistingFiles() throws IOException {
+        List<Path> existing;
+        try (Stream<Path> paths = Files.list(DIRECTORY)) {
+            existing = paths.filter(path -> path.getFileName().toString().endsWith(".zip"))
+                    .sorted(Comparator.comparingLong(FailureArtifacts::lastModified))
+                    .collect(Collectors.toList());
+        }
+        synchronized (files) {
+            for (Path path : existing) {
+                files.addLast(path);
+                totalBytes += Files.size(path);
+            }
+        }
+        enforceBudget();
+    }
+
+    /**
+     * Resource Timing verilerini HAR 1.2 iskeletine dönüştürür. İstek/yanıt başlıkları tarayıcıda
+     * tutulmadığı için yazılmaz.
+     */
+    private static Map<String, Object> toHar(Map<?, ?> network, String pageUrl) {
+        double origin = number(network.get("origin"));
+        List<Object> entries = new ArrayList<>();
+        Object rawEntries = network.get("entries");
+        if (rawEntries instanceof List) {
+            for (Object raw : (List<?>) rawEntries) {
+                Map<?, ?> entry = (Map<?, ?>) raw;
+                Map<String, Object> request = new LinkedHashMap<>();
+                request.put("method", "GET");
+                request.put("url", entry.get("url"));
+                request.put("httpVersion", entry.get("protocol"));
+                Map<String, Object> response = new LinkedHashMap<>();
+                response.put("status", entry.get("status"));
+                response.put("httpVersion", entry.get("protocol"));
+                response.put("bodySize", entry.get("bodySize"));
+                response.put("_transferSize", entry.get("transferSize"));
+                Map<String, Object> timings = new LinkedHashMap<>();
+                timings.put("blocked", -1);
+                timings.put("dns", entry.get("dns"));
+                timings.put("connect", entry.get("connect"));
+                timings.put("ssl", entry.get("ssl"));
+                timings.put("send", 0);
+                timings.put("wait", entry.get("wait"));
+                timings.put("receive", entry.get("receive"));
+
+                Map<String, Object> harEntry = new LinkedHashMap<>();
+                harEntry.put("startedDateTime",
+                        Instant.ofEpochMilli((long) (origin + number(entry.get("start")))).toString());
+                harEntry.put("time", entry.get("duration"));
+                harEntry.put("_initiatorType", entry.get("type"));
+                harEntry.put("request", request);
+                harEntry.put("response", response);
+                harEntry.put("timings", timings);
+                entries.add(harEntry);
+            }
+        }
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Collections.singletonMap("name", "paytr-ui failure artifacts"));
+        log.put("comment", "Resource Timing entries of " + pageUrl);
+        log.put("entries", entries);
+        return Collections.<String, Object>singletonMap("log", log);
+    }
+
+    private static String describe(Capture capture) {
+        StringBuilder text = new StringBuilder();
+        text.append("Reason: ").append(capture.reason).append('\n');
+        text.append("Test: ").append(capture.test).append('\n');
+        text.append("Thread: ").append(capture.thread).append('\n');
+        text.append("Time: ").append(capture.timestamp).append('\n');
+        text.append("URL: ").append(capture.url).append('\n');
+        for (String note : capture.notes) {
+            text.append("Not captured: ").append(note).append('\n');
+        }
+        if (capture.cause != null) {
+            StringWriter stackTrace = new StringWriter();
+            capture.cause.printStackTrace(new PrintWriter(stackTrace));
+            text.append('\n').append(stackTrace);
+        }
+        return text.toString();
+    }
+
+    private static void putEntry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String sanitize(String value) {
+        String sanitized = value.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return sanitized.length() > 80 ? sanitized.substring(0, 80) : sanitized;
+    }
+
+    /**
+     * Hata anında tarayıcıdan okunan ham veriler; işleme ve yazma yazıcı thread'inde yapılır.
+     */
+    private static final class Capture {
+        private final String reason;
+        private final Throwable cause;
+        private final Instant timestamp = Instant.now();
+        private final String thread = Thread.currentThread().getName();
+        private final String test;
+        private final List<String> notes = new ArrayList<>();
+        private String url;
+        private String screenshotBase64;
+        private String pageSource;
+        private List<LogEntry> console;
+        private Object network;
+
+        private Capture(String reason, Throwable cause) {
+            this.reason = reason;
+            this.cause = cause;
+            String testClass = ThreadContext.get("testClass");
+            String testMethod = ThreadContext.get("testMethod");
+            this.test = testClass == null ? null : testMethod == null ? testClass : testClass + "." + testMethod;
+        }
+    }
+}
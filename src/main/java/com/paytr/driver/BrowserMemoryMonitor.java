@@ -0,0 +1,157 @@
+package com.paytr.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Her tarayıcı oturumunun en yüksek bellek kullanımını (peak RSS) izler.
+ * Her oturum kendi {@code --user-data-dir} dizini ile başlatılır; bu dizini komut satırında taşıyan
+ * tüm Chrome süreçlerinin /proc altındaki VmHWM değerleri toplanır. Yalnızca Linux'ta desteklenir.
+ */
+public final class BrowserMemoryMonitor {
+
+    private static final Logger logger = LogManager.getLogger(BrowserMemoryMonitor.class);
+    private static final BrowserMemoryMonitor INSTANCE = new BrowserMemoryMonitor();
+    private static final Path PROC = Paths.get("/proc");
+
+    private final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Long> finishedPeaks = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private BrowserMemoryMonitor() {
+    }
+
+    public static BrowserMemoryMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isSupported() {
+        return Files.isDirectory(PROC.resolve("self"));
+    }
+
+    /**
+     * Yeni oturum için geçici bir profil dizini oluşturur; desteklenmeyen sistemlerde null döner.
+     */
+    public Path createUserDataDir() {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            return Files.createTempDirectory("paytr-chrome-");
+        } catch (IOException e) {
+            logger.warn("Could not create Chrome user data dir, memory tracking disabled for this session.", e);
+            return null;
+        }
+    }
+
+    public void track(WebDriver driver, Path userDataDir) {
+        if (userDataDir != null) {
+            sessions.put(driver, new Session("browser-" + sequence.incrementAndGet(), userDataDir));
+        }
+    }
+
+    /**
+     * Oturumun o ana kadarki en yüksek RSS değerini günceller.
+     */
+    public void sample(WebDriver driver) {
+        Session session = sessions.get(driver);
+        if (session != null) {
+            session.peakKb = Math.max(session.peakKb, readPeakKb(session.userDataDir.toString()));
+        }
+    }
+
+    /**
+     * Kapatılan oturumun son ölçümünü saklar ve profil dizinini siler. driver.quit() sonrasında çağrılır.
+     */
+    public void untrack(WebDriver driver) {
+        Session session = sessions.remove(driver);
+        if (session == null) {
+            return;
+        }
+        finishedPeaks.put(session.name, session.peakKb);
+        deleteRecursively(session.userDataDir);
+    }
+
+    /**
+     * Koşu boyunca her tarayıcının en yüksek RSS değerini loglar.
+     */
+    public void logReport() {
+        if (finishedPeaks.isEmpty()) {
+            return;
+        }
+        long max = 0;
+        for (Map.Entry<String, Long> entry : finishedPeaks.entrySet()) {
+            logger.info("Peak RSS of {}: {} MB", entry.getKey(), entry.getValue() / 1024);
+            max = Math.max(max, entry.getValue());
+        }
+        logger.info("Highest peak RSS per browser: {} MB across {} browser(s).", max / 1024, finishedPeaks.size());
+    }
+
+    /**
+     * Komut satırında verilen profil dizinini içeren süreçlerin VmHWM değerlerini (kB) toplar.
+     */
+    private long readPeakKb(String userDataDir) {
+        long total = 0;
+        try (Stream<Path> processes = Files.list(PROC)) {
+            for (Path process : (Iterable<Path>) processes::iterator) {
+                if (!process.getFileName().toString().matches("\\d+")) {
+                    continue;
+                }
+                try {
+                    String cmdline = new String(Files.readAllBytes(process.resolve("cmdline")), StandardCharsets.UTF_8);
+                    if (cmdline.contains(userDataDir)) {
+                        total += readStatusValueKb(process.resolve("status"), "VmHWM:");
+                    }
+                } catch (IOException e) {
+                    // Süreç bu arada sonlanmış olabilir
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read process table for memory sampling.", e);
+        }
+        return total;
+    }
+
+    private long readStatusValueKb(Path status, String key) throws IOException {
+        List<String> lines = Files.readAllLines(status, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            if (line.startsWith(key)) {
+                return Long.parseLong(line.substring(key.length()).replace("kB", "").trim());
+            }
+        }
+        return 0;
+    }
+
+    private void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            logger.warn("Could not delete Chrome user data dir: {}", directory, e);
+        }
+    }
+
+    private static final class Session {
+        private final String name;
+        private final Path userDataDir;
+        private volatile long peakKb;
+
+        private Session(String name, Path userDataDir) {
+            this.name = name;
+            this.userDataDir = userDataDir;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.paytr.driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Locale;
+
+/**
+ * Tarayıcının hangi ayarlarla başlatılacağını belirleyen profil.
+ * {@code -Dbrowser.profile=throughput} ile CI için headless ve kaynak tüketimi azaltılmış profil seçilir.
+ *
+ * <ul>
+ *     <li>{@code -Dbrowser.viewport}: throughput profilinde sabit pencere boyutu (varsayılan: 1920x1080)</li>
+ *     <li>{@code -Dbrowser.images=false}: görselleri yüklemez</li>
+ *     <li>{@code -Dbrowser.fonts=false}: uzak web fontlarını yüklemez</li>
+ * </ul>
+ */
+public enum BrowserProfile {
+
+    /**
+     * Ekranda görünen, büyütülmüş pencereli standart Chrome.
+     */
+    DEFAULT,
+
+    /**
+     * Headless, sabit boyutlu ve eager sayfa yükleme stratejili Chrome.
+     */
+    THROUGHPUT;
+
+    public static BrowserProfile current() {
+        String value = System.getProperty("browser.profile", "default");
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown browser.profile: " + value
+                    + " (expected 'default' or 'throughput')", e);
+        }
+    }
+
+    public boolean isHeadless() {
+        return this == THROUGHPUT;
+    }
+
+    /**
+     * Profile uygun ChromeOptions nesnesini oluşturur.
+     */
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        if (this == DEFAULT) {
+            return options;
+        }
+
+        options.addArguments(
+                "--headless=new",
+                "--window-size=" + System.getProperty("browser.viewport", "1920x1080").replace('x', ','),
+                "--disable-gpu",
+                "--disable-extensions",
+                "--disable-dev-shm-usage",
+                "--no-first-run",
+                "--mute-audio",
+                "--disable-background-timer-throttling",
+                "--disable-backgrounding-occluded-windows",
+                "--disable-renderer-backgrounding"
+        );
+        if (!Boolean.parseBoolean(System.getProperty("browser.images", "true"))) {
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        if (!Boolean.parseBoolean(System.getProperty("browser.fonts", "true"))) {
+            options.addArguments("--disable-remote-fonts");
+        }
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        return options;
+    }
+}
@@ -0,0 +1,177 @@
+package com.paytr.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Kurulu Chrome'un major sürümüne göre anahtarlanan yerel chromedriver önbelleği.
+ * Önbellekte uygun binary varsa hiçbir HTTP çağrısı yapılmadan doğrudan kullanılır;
+ * yoksa (çevrimdışı mod kapalıysa) WebDriverManager ile bir kez indirilip önbelleğe kopyalanır.
+ *
+ * <ul>
+ *     <li>{@code -Ddriver.cache.dir}: önbellek dizini (varsayılan: ~/.cache/paytr-ui/chromedriver)</li>
+ *     <li>{@code -Ddriver.offline=true}: önbellekte binary yoksa indirmek yerine hata verir</li>
+ *     <li>{@code -Dchrome.binary}: Chrome sürümünü okumak için kullanılacak çalıştırılabilir dosya</li>
+ * </ul>
+ */
+public final class DriverBinaryCache {
+
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.\\d+\\.\\d+\\.\\d+");
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win");
+    private static final String DRIVER_FILE_NAME = WINDOWS ? "chromedriver.exe" : "chromedriver";
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * chromedriver yolunu çözümler ve {@code webdriver.chrome.driver} sistem özelliğine yazar.
+     */
+    public static void resolve() {
+        long start = System.nanoTime();
+        boolean offline = Boolean.getBoolean("driver.offline");
+        String chromeVersion = detectChromeVersion();
+
+        if (chromeVersion == null) {
+            if (offline) {
+                throw new IllegalStateException(
+                        "Could not detect installed Chrome version; set -Dchrome.binary or disable -Ddriver.offline.");
+            }
+            logger.warn("Could not detect installed Chrome version, falling back to WebDriverManager resolution.");
+            WebDriverManager.chromedriver().setup();
+            return;
+        }
+
+        String majorVersion = majorVersionOf(chromeVersion);
+        Path cachedDriver = cacheDirectory().resolve(majorVersion).resolve(DRIVER_FILE_NAME);
+
+        if (Files.isExecutable(cachedDriver)) {
+            System.setProperty("webdriver.chrome.driver", cachedDriver.toString());
+            logger.info("Using cached chromedriver for Chrome {}: {} (resolved in {} ms)", chromeVersion,
+                    cachedDriver, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return;
+        }
+
+        if (offline) {
+            throw new IllegalStateException("No cached chromedriver for Chrome " + majorVersion + " at " + cachedDriver
+                    + ". Run once with network access or copy a matching chromedriver there.");
+        }
+
+        logger.info("No cached chromedriver for Chrome {}, downloading with WebDriverManager.", majorVersion);
+        WebDriverManager manager = WebDriverManager.chromedriver().browserVersion(majorVersion);
+        manager.setup();
+        storeInCache(Paths.get(manager.getDownloadedDriverPath()), cachedDriver);
+        System.setProperty("webdriver.chrome.driver", cachedDriver.toString());
+    }
+
+    /**
+     * Kurulu Chrome'un tam sürümünü (ör. 116.0.5845.96) döndürür; bulunamazsa null döner.
+     */
+    static String detectChromeVersion() {
+        for (List<String> command : versionCommands()) {
+            String output = run(command);
+            if (output != null) {
+                Matcher matcher = VERSION_PATTERN.matcher(output);
+                if (matcher.find()) {
+                    return matcher.group();
+                }
+            }
+        }
+        return null;
+    }
+
+    static String majorVersionOf(String fullVersion) {
+        return fullVersion.substring(0, fullVersion.indexOf('.'));
+    }
+
+    private static List<List<String>> versionCommands() {
+        List<List<String>> commands = new ArrayList<>();
+        String configuredBinary = System.getProperty("chrome.binary");
+        if (configuredBinary != null) {
+            commands.add(Arrays.asList(configuredBinary, "--version"));
+            return commands;
+        }
+
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        if (WINDOWS) {
+            commands.add(Arrays.asList("reg", "query", "HKEY_CURRENT_USER\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"));
+            commands.add(Arrays.asList("reg", "query", "HKEY_LOCAL_MACHINE\\Software\\Google\\Chrome\\BLBeacon", "/v", "version"));
+        } else if (os.contains("mac")) {
+            commands.add(Arrays.asList("/Applications/Google Chrome.app/Contents/MacOS/Google Chrome", "--version"));
+        } else {
+            for (String binary : new String[]{"google-chrome", "google-chrome-stable", "chromium", "chromium-browser"}) {
+                commands.add(Arrays.asList(binary, "--version"));
+            }
+        }
+        return commands;
+    }
+
+    private static String run(List<String> command) {
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            StringBuilder output = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append('\n');
+                }
+            }
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return null;
+            }
+            return process.exitValue() == 0 ? output.toString() : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static Path cacheDirectory() {
+        String configured = System.getProperty("driver.cache.dir");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "paytr-ui", "chromedriver");
+    }
+
+    /**
+     * İndirilen binary'yi önbelleğe atomik olarak kopyalar; paralel JVM'ler yarım dosya görmez.
+     */
+    private static void storeInCache(Path downloaded, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), DRIVER_FILE_NAME, ".tmp");
+            Files.copy(downloaded, temp, StandardCopyOption.REPLACE_EXISTING);
+            File tempFile = temp.toFile();
+            if (!tempFile.setExecutable(true)) {
+                logger.warn("Could not mark cached chromedriver as executable: {}", temp);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Stored chromedriver in cache: {}", target);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store chromedriver in cache: " + target, e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.paytr.driver;
+
+import com.paytr.artifacts.FailureArtifacts;
+import com.paytr.wait.NavigationTracker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.nio.file.Path;
+
+/**
+ * Yeni ChromeDriver oturumlarını oluşturan yardımcı sınıf.
+ * Driver binary çözümlemesi JVM başına yalnızca bir kez, yerel önbellek üzerinden yapılır.
+ * Oturumlar {@link NetworkPolicy} ile (engellenen URL'ler, izin verilen host'lar, paylaşılan önbellek) başlatılır.
+ */
+public final class DriverFactory {
+
+    private static final Logger logger = LogManager.getLogger(DriverFactory.class);
+    private static volatile boolean driverResolved;
+
+    private DriverFactory() {
+    }
+
+    /**
+     * Seçili {@link BrowserProfile} ile yeni bir ChromeDriver oturumu başlatır.
+     */
+    public static WebDriver createChromeDriver() {
+        resolveDriverBinary();
+        BrowserProfile profile = BrowserProfile.current();
+        ChromeOptions options = profile.toChromeOptions();
+
+        BrowserMemoryMonitor memoryMonitor = BrowserMemoryMonitor.getInstance();
+        Path userDataDir = memoryMonitor.createUserDataDir();
+        if (userDataDir != null) {
+            options.addArguments("--user-data-dir=" + userDataDir);
+        }
+        NetworkPolicy networkPolicy = NetworkPolicy.getInstance();
+        Path cacheDir = networkPolicy.configure(options);
+        FailureArtifacts.getInstance().configure(options);
+
+        WebDriver driver;
+        try {
+            driver = new InstrumentedChromeDriver(options);
+        } catch (RuntimeException e) {
+            networkPolicy.releaseCacheDir(cacheDir);
+            throw e;
+        }
+        memoryMonitor.track(driver, userDataDir);
+        networkPolicy.track(driver, cacheDir);
+        try {
+            if (!profile.isHeadless()) {
+                driver.manage().window().maximize();
+            }
+            networkPolicy.applyTo(driver);
+            NavigationTracker.getInstance().attach(driver);
+        } catch (RuntimeException e) {
+            // Hazırlanamayan oturumun Chrome süreci, profil dizini ve önbellek slotu serbest bırakılır
+            quitAfterFailedSetup(driver);
+            throw e;
+        }
+        logger.info("Started new ChromeDriver session with {} profile and network policy '{}'.", profile,
+                networkPolicy.describe());
+        return driver;
+    }
+
+    private static void quitAfterFailedSetup(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to quit WebDriver session after a failed setup.", e);
+        } finally {
+            BrowserMemoryMonitor.getInstance().untrack(driver);
+            NetworkPolicy.getInstance().untrack(driver);
+            NavigationTracker.getInstance().detach(driver);
+        }
+    }
+
+    /**
+     * chromedriver binary'sini ilk çağrıda çözümler; sonraki çağrılar hiçbir şey yapmaz.
+     */
+    private static void resolveDriverBinary() {
+        if (driverResolved) {
+            return;
+        }
+        synchronized (DriverFactory.class) {
+            if (!driverResolved) {
+                DriverBinaryCache.resolve();
+                driverResolved = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.paytr.driver;
+
+import com.paytr.wait.NavigationTracker;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Paralel çalışan test sınıfları için sınırlı boyutlu WebDriver havuzu.
+ * Her çalışan thread kendi driver'ını kiralar; iade edilen driver'ın durumu
+ * (çerezler, storage, sekmeler) temizlenip bir sonraki kiralamaya hazır tutulur. Temizlik DevTools üzerinden
+ * tarayıcı genelinde yapılır: tüm çerezler silinir ve oturumun ziyaret ettiği her origin'in storage'ı boşaltılır.
+ * Havuz boyutu {@code -Ddriver.pool.size} ile ayarlanır (varsayılan: işlemci sayısı).
+ * {@code -Ddriver.reuse=false} verilirse her iade edilen oturum kapatılır (soğuk başlatma modu).
+ */
+public final class DriverPool {
+
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final int DEFAULT_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final boolean REUSE_SESSIONS = Boolean.parseBoolean(System.getProperty("driver.reuse", "true"));
+    private static final DriverPool INSTANCE = new DriverPool(Integer.getInteger("driver.pool.size", DEFAULT_SIZE));
+
+    private final int size;
+    private final Semaphore permits;
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> drivers = ConcurrentHashMap.newKeySet();
+    private final Map<WebDriver, PooledSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong coldLaunches = new AtomicLong();
+    private final AtomicLong coldLaunchNanos = new AtomicLong();
+    private final AtomicLong warmLeases = new AtomicLong();
+    private final AtomicLong resetNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    private DriverPool(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("driver.pool.size must be at least 1, was: " + size);
+        }
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Havuzdan bir driver kiralar. Boşta driver yoksa ve havuz dolu değilse yenisini başlatır,
+     * havuz doluysa bir driver iade edilene kadar bekler.
+     */
+    public WebDriver lease() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is already shut down.");
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a WebDriver lease.", e);
+        }
+
+        WebDriver driver = idle.pollFirst();
+        if (driver != null) {
+            warmLeases.incrementAndGet();
+            logger.info("Leased warm WebDriver session to thread {}.", Thread.currentThread().getName());
+            return driver;
+        }
+
+        try {
+            long start = System.nanoTime();
+            driver = DriverFactory.createChromeDriver();
+            coldLaunchNanos.addAndGet(System.nanoTime() - start);
+            coldLaunches.incrementAndGet();
+            drivers.add(driver);
+            sessions.put(driver, PooledSession.open(driver));
+            logger.info("Leased new WebDriver session to thread {} ({}/{} started).",
+                    Thread.currentThread().getName(), drivers.size(), size);
+            return driver;
+        } catch (RuntimeException e) {
+            if (driver != null) {
+                quitQuietly(driver);
+            }
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Kiralanan driver'ı temizleyip havuza geri verir. Temizlenemeyen driver kapatılır.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            BrowserMemoryMonitor.getInstance().sample(driver);
+            if (closed || !REUSE_SESSIONS) {
+                quitQuietly(driver);
+                return;
+            }
+            long start = System.nanoTime();
+            reset(driver);
+            resetNanos.addAndGet(System.nanoTime() - start);
+            idle.offerFirst(driver);
+            logger.info("WebDriver session returned to pool by thread {}.", Thread.currentThread().getName());
+        } catch (Exception e) {
+            logger.warn("Failed to reset WebDriver session, discarding it.", e);
+            quitQuietly(driver);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Havuzdaki tüm driver'ları kapatır. Koşunun sonunda bir kez çağrılır.
+     */
+    public void shutdown() {
+        closed = true;
+        List<WebDriver> toQuit = new ArrayList<>(drivers);
+        for (WebDriver driver : toQuit) {
+            quitQuietly(driver);
+        }
+        idle.clear();
+        logger.info("Driver pool shut down, {} session(s) closed.", toQuit.size());
+        logReuseReport();
+        BrowserMemoryMonitor.getInstance().logReport();
+    }
+
+    /**
+     * Sıcak oturum kullanımının soğuk başlatmaya göre kazandırdığı süreyi loglar.
+     * Tahmin: sıcak kiralama sayısı x ortalama soğuk başlatma süresi - toplam temizleme süresi.
+     */
+    private void logReuseReport() {
+        long launches = coldLaunches.get();
+        if (launches == 0) {
+            return;
+        }
+        long avgLaunchMs = TimeUnit.NANOSECONDS.toMillis(coldLaunchNanos.get() / launches);
+        long totalResetMs = TimeUnit.NANOSECONDS.toMillis(resetNanos.get());
+        long savedMs = warmLeases.get() * avgLaunchMs - totalResetMs;
+        logger.info("Session reuse: {} cold launch(es) averaging {} ms, {} warm lease(s), {} ms spent on resets, "
+                        + "~{} ms startup time saved versus cold launches.",
+                launches, avgLaunchMs, warmLeases.get(), totalResetMs, savedMs);
+    }
+
+    /**
+     * Oturum açılırken kaydedilen sekme dışındaki sekmeleri kapatır, çerezleri ve web storage'ı temizler
+     * ve about:blank'e gider. Özgün sekme test tarafından kapatılmışsa hata fırlatır; oturum atılır.
+     */
+    private void reset(WebDriver driver) {
+        PooledSession session = sessions.get(driver);
+        Set<String> origins = new HashSet<>();
+        for (String handle : driver.getWindowHandles()) {
+            if (handle.equals(session.originalHandle)) {
+                continue;
+            }
+            driver.switchTo().window(handle);
+            addOrigin(origins, driver.getCurrentUrl());
+            driver.close();
+        }
+        driver.switchTo().window(session.originalHandle);
+        addOrigin(origins, driver.getCurrentUrl());
+
+        // sessionStorage sekmeye bağlıdır; DevTools ile origin bazında silinmez
+        ((JavascriptExecutor) driver).executeScript("try { window.sessionStorage.clear(); } catch (e) {}");
+        if (!session.clearBrowserData(origins)) {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript("try { window.localStorage.clear(); } catch (e) {}");
+        }
+        driver.get("about:blank");
+    }
+
+    /**
+     * URL'in origin'ini (şema://host[:port]) ekler; http(s) dışındaki adresler (about:blank, data:) atlanır.
+     */
+    private static void addOrigin(Set<String> origins, Object url) {
+        if (url == null) {
+            return;
+        }
+        try {
+            URI uri = URI.create(url.toString());
+            String scheme = uri.getScheme();
+            if (uri.getHost() != null && ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+                origins.add(scheme.toLowerCase(Locale.ROOT) + "://" + uri.getHost()
+                        + (uri.getPort() >= 0 ? ":" + uri.getPort() : ""));
+            }
+        } catch (IllegalArgumentException e) {
+            // Ayrıştırılamayan adres; origin'i bilinmiyor
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        drivers.remove(driver);
+        idle.remove(driver);
+        BrowserMemoryMonitor memoryMonitor = BrowserMemoryMonitor.getInstance();
+        memoryMonitor.sample(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Failed to quit WebDriver session.", e);
+        } finally {
+            sessions.remove(driver);
+            memoryMonitor.untrack(driver);
+            NetworkPolicy.getInstance().untrack(driver);
+            NavigationTracker.getInstance().detach(driver);
+        }
+    }
+
+    /**
+     * Havuzdaki bir oturumun kiralama boyunca korunan bilgileri: açılıştaki sekme ve ana sekmede
+     * (alt çerçeveler dahil) gezilen origin'ler.
+     */
+    private static final class PooledSession {
+        private static final String STORAGE_TYPES =
+                "cookies,file_systems,indexeddb,local_storage,shader_cache,websql,service_workers,cache_storage";
+
+        private final String originalHandle;
+        private final DevTools devTools;
+        private final Set<String> origins = ConcurrentHashMap.newKeySet();
+
+        private PooledSession(String originalHandle, DevTools devTools) {
+            this.originalHandle = originalHandle;
+            this.devTools = devTools;
+        }
+
+        /**
+         * Açılıştaki sekmeyi kaydeder ve DevTools varsa çerçeve navigasyonlarından origin toplamaya başlar.
+         */
+        @SuppressWarnings("unchecked")
+        private static PooledSession open(WebDriver driver) {
+            String handle = driver.getWindowHandle();
+            if (!(driver instanceof HasDevTools)) {
+                return new PooledSession(handle, null);
+            }
+            try {
+                DevTools devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                PooledSession session = new PooledSession(handle, devTools);
+                devTools.addListener(new Event<Map<String, Object>>("Page.frameNavigated",
+                        input -> input.read(Json.MAP_TYPE)), params -> {
+                    Object frame = params.get("frame");
+                    if (frame instanceof Map) {
+                        addOrigin(session.origins, ((Map<String, Object>) frame).get("url"));
+                    }
+                });
+                devTools.send(new Command<Void>("Page.enable", Collections.<String, Object>emptyMap()));
+                return session;
+            } catch (RuntimeException e) {
+                logger.warn("Could not track visited origins through DevTools, "
+                        + "resets only clear the current origin's storage.", e);
+                return new PooledSession(handle, null);
+            }
+        }
+
+        /**
+         * Tarayıcıdaki tüm çerezleri ve gezilen her origin'in storage'ını DevTools ile siler.
+         * HTTP disk önbelleği korunur.
+         *
+         * @return DevTools kullanılamıyorsa false
+         */
+        private boolean clearBrowserData(Set<String> extraOrigins) {
+            if (devTools == null) {
+                return false;
+            }
+            Set<String> toClear = new HashSet<>(origins);
+            toClear.addAll(extraOrigins);
+            devTools.send(new Command<Void>("Network.clearBrowserCookies", Collections.<String, Object>emptyMap()));
+            for (String origin : toClear) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("origin", origin);
+                params.put("storageTypes", STORAGE_TYPES);
+                devTools.send(new Command<Void>("Storage.clearDataForOrigin", params));
+            }
+            origins.removeAll(toClear);
+            logger.debug("Cleared cookies and storage for {} origin(s).", toClear.size());
+            return true;
+        }
+    }
+}
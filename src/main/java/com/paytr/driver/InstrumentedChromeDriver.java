@@ -0,0 +1,43 @@
+package com.paytr.driver;
+
+import com.paytr.metrics.PageLoadMetrics;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.Response;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chromedriver'a gönderilen her komutu (WebDriver round trip) sayan ChromeDriver.
+ * Element üzerinden yapılan çağrılar da sürücünün execute metodundan geçtiği için sayılır.
+ * Her {@link #get(String)} çağrısının yükleme süresi {@link PageLoadMetrics}'e kaydedilir.
+ */
+public class InstrumentedChromeDriver extends ChromeDriver {
+
+    private final AtomicLong commandCount = new AtomicLong();
+
+    public InstrumentedChromeDriver(ChromeOptions options) {
+        super(options);
+    }
+
+    @Override
+    protected Response execute(CommandPayload payload) {
+        commandCount.incrementAndGet();
+        return super.execute(payload);
+    }
+
+    @Override
+    public void get(String url) {
+        long start = System.nanoTime();
+        super.get(url);
+        PageLoadMetrics.getInstance().record(this, url, System.nanoTime() - start);
+    }
+
+    /**
+     * Oturum başından bu yana gönderilen komut sayısı.
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+}
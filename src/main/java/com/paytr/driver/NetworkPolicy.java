@@ -0,0 +1,250 @@
+package com.paytr.driver;
+
+import com.paytr.fixture.SiteMode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tarayıcının hangi ağ isteklerini yapabileceğini belirleyen politika.
+ *
+ * <ul>
+ *     <li>{@code -Dnetwork.block}: engellenecek URL kalıpları, virgülle ayrılmış ({@code *} joker karakterdir).
+ *     "default" değeri analitik, sohbet ve izleme betiklerinden oluşan yerleşik listeyi ekler.
+ *     Engelleme oturum başına bir kez CDP {@code Network.setBlockedURLs} ile kurulur; istek başına ek maliyeti yoktur.</li>
+ *     <li>{@code -Dnetwork.allow}: yalnızca bu host'lar çözümlenir (ör. {@code www.paytr.com,*.paytr.com});
+ *     diğerleri Chrome'un host-resolver-rules ayarıyla anında başarısız olur.</li>
+ *     <li>{@code -Dnetwork.cache.dir}: statik dosyaların oturumlar ve koşular arasında paylaşılan disk önbelleği.
+ *     Chrome aynı önbellek dizininin eşzamanlı kullanımını desteklemediği için her açık oturum ayrı bir slot kullanır;
+ *     kapanan oturumun slotu (ve önbelleği) bir sonraki oturuma verilir. Slotlar dosya kilidiyle sahiplenildiğinden
+ *     aynı dizini kullanan paralel JVM'ler (ör. shard'lar) aynı slota düşmez.</li>
+ * </ul>
+ */
+public final class NetworkPolicy {
+
+    private static final Logger logger = LogManager.getLogger(NetworkPolicy.class);
+    private static final List<String> DEFAULT_BLOCKLIST = Arrays.asList(
+            "*googletagmanager.com*",
+            "*google-analytics.com*",
+            "*doubleclick.net*",
+            "*googleadservices.com*",
+            "*connect.facebook.net*",
+            "*facebook.com/tr*",
+            "*hotjar.com*",
+            "*clarity.ms*",
+            "*mc.yandex.ru*",
+            "*bat.bing.com*",
+            "*snap.licdn.com*",
+            "*analytics.tiktok.com*",
+            "*embed.tawk.to*",
+            "*static.zdassets.com*",
+            "*widget.intercom.io*",
+            "*cdn.livechatinc.com*"
+    );
+    private static final String SLOT_LOCK_FILE = ".slot.lock";
+    private static final NetworkPolicy INSTANCE = new NetworkPolicy();
+
+    private final List<String> blockedUrls;
+    private final List<String> allowedHosts;
+    private final Path cacheRoot;
+    private final Queue<Path> freeCacheDirs = new PriorityQueue<>();
+    private final Map<WebDriver, Path> cacheDirs = new ConcurrentHashMap<>();
+    private final List<FileLock> slotLocks = new ArrayList<>();
+    private int nextCacheSlot;
+
+    private NetworkPolicy() {
+        List<String> blocked = new ArrayList<>();
+        for (String pattern : split(System.getProperty("network.block", ""))) {
+            if ("default".equalsIgnoreCase(pattern)) {
+                blocked.addAll(DEFAULT_BLOCKLIST);
+            } else {
+                blocked.add(pattern);
+            }
+        }
+        this.blockedUrls = Collections.unmodifiableList(blocked);
+        this.allowedHosts = split(System.getProperty("network.allow", ""));
+        String cacheDir = System.getProperty("network.cache.dir");
+        this.cacheRoot = cacheDir != null && !cacheDir.trim().isEmpty() ? Paths.get(cacheDir.trim()) : null;
+    }
+
+    public static NetworkPolicy getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isActive() {
+        return !blockedUrls.isEmpty() || !allowedHosts.isEmpty() || cacheRoot != null;
+    }
+
+    /**
+     * Raporlarda kullanılan kısa ad: "none" ya da etkin ayarlar (ör. "block+cache").
+     */
+    public String describe() {
+        if (!isActive()) {
+            return "none";
+        }
+        List<String> parts = new ArrayList<>();
+        if (!blockedUrls.isEmpty()) {
+            parts.add("block");
+        }
+        if (!allowedHosts.isEmpty()) {
+            parts.add("allow");
+        }
+        if (cacheRoot != null) {
+            parts.add("cache");
+        }
+        return String.join("+", parts);
+    }
+
+    /**
+     * Başlatma argümanlarını (host kuralları, disk önbelleği) ekler. Dönen önbellek dizini
+     * oturum başladıktan sonra {@link #track(WebDriver, Path)} ile oturuma bağlanmalıdır.
+     */
+    public Path configure(ChromeOptions options) {
+        String hostRules = hostResolverRules();
+        if (hostRules != null) {
+            options.addArguments("--host-resolver-rules=" + hostRules);
+        }
+        Path cacheDir = leaseCacheDir();
+        if (cacheDir != null) {
+            options.addArguments("--disk-cache-dir=" + cacheDir);
+        }
+        return cacheDir;
+    }
+
+    public void track(WebDriver driver, Path cacheDir) {
+        if (cacheDir != null) {
+            cacheDirs.put(driver, cacheDir);
+        }
+    }
+
+    /**
+     * Kapatılan oturumun önbellek slotunu serbest bırakır. driver.quit() sonrasında çağrılır.
+     */
+    public void untrack(WebDriver driver) {
+        releaseCacheDir(cacheDirs.remove(driver));
+    }
+
+    public void releaseCacheDir(Path cacheDir) {
+        if (cacheDir != null) {
+            synchronized (freeCacheDirs) {
+                freeCacheDirs.add(cacheDir);
+            }
+        }
+    }
+
+    /**
+     * Engelleme listesini DevTools üzerinden oturuma uygular. Bağlantı kurulamazsa politika olmadan devam edilir.
+     */
+    public void applyTo(WebDriver driver) {
+        if (blockedUrls.isEmpty()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.warn("{} does not support DevTools, network blocklist not applied.", driver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<Void>("Network.enable", Collections.<String, Object>emptyMap()));
+            devTools.send(new Command<Void>("Network.setBlockedURLs",
+                    Collections.<String, Object>singletonMap("urls", blockedUrls)));
+            logger.info("Blocking {} URL pattern(s) for this session.", blockedUrls.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not apply network blocklist through DevTools, continuing without it.", e);
+        }
+    }
+
+    /**
+     * Replay modunda yalnızca yerel sunucuya, allowlist verilmişse yalnızca o host'lara izin veren kurallar.
+     */
+    private String hostResolverRules() {
+        List<String> resolvable = new ArrayList<>(Arrays.asList("127.0.0.1", "localhost"));
+        if (SiteMode.current() != SiteMode.REPLAY) {
+            if (allowedHosts.isEmpty()) {
+                return null;
+            }
+            resolvable.addAll(allowedHosts);
+        }
+        StringBuilder rules = new StringBuilder("MAP * ~NOTFOUND");
+        for (String host : resolvable) {
+            rules.append(", EXCLUDE ").append(host);
+        }
+        return rules.toString();
+    }
+
+    private Path leaseCacheDir() {
+        if (cacheRoot == null) {
+            return null;
+        }
+        synchronized (freeCacheDirs) {
+            Path cacheDir = freeCacheDirs.poll();
+            if (cacheDir != null) {
+                return cacheDir;
+            }
+            try {
+                return claimCacheSlot();
+            } catch (IOException e) {
+                logger.warn("Could not claim a disk cache slot in {}, using Chrome's default cache.", cacheRoot, e);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Başka bir JVM'nin kilitlemediği ilk slotu, içindeki kilit dosyasını kilitleyerek sahiplenir.
+     * Kilit JVM kapanana kadar tutulur; slot bu JVM içinde oturumlar arasında yeniden kullanılır.
+     * freeCacheDirs kilidi altında çağrılır.
+     */
+    private Path claimCacheSlot() throws IOException {
+        while (true) {
+            Path cacheDir = cacheRoot.resolve("slot-" + nextCacheSlot++);
+            Files.createDirectories(cacheDir);
+            FileChannel channel = FileChannel.open(cacheDir.resolve(SLOT_LOCK_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+            if (lock != null) {
+                slotLocks.add(lock);
+                return cacheDir;
+            }
+            channel.close();
+            logger.debug("Disk cache slot {} is held by another process, trying the next one.", cacheDir);
+        }
+    }
+
+    private static List<String> split(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+}
@@ -0,0 +1,274 @@
+package com.paytr.fixture;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * {@link SiteArchive} üzerinden çalışan yerel HTTP sunucusu.
+ *
+ * <ul>
+ *     <li>Record modunda her isteği canlı siteye iletir, yanıtı arşive yazar ve tarayıcıya döndürür.
+ *     Metin yanıtlardaki canlı site adresleri köke göre yazılır, böylece tarayıcı yerel sunucuda kalır.</li>
+ *     <li>Replay modunda yalnızca arşivden yanıt verir; kaydı olmayan istekler 404 ile döner.</li>
+ * </ul>
+ *
+ * POST istekleri replay modunda canlı siteye hiç gitmez: kayıtlı yanıt (yoksa varsayılan bir JSON) içindeki
+ * referans alanları, sunucudaki gönderim sırası, istek yolu ve gövdesinden türetilen bir referans numarasıyla
+ * doldurulur. Aynı koşuda tekrarlanan gönderimler farklı, aynı sırayla yapılan koşular ise aynı numaraları alır.
+ */
+public final class ArchiveServer implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ArchiveServer.class);
+    private static final String REFERENCE_PLACEHOLDER = "${reference}";
+    private static final String DEFAULT_POST_STUB = "{\"success\":true,\"reference\":\"" + REFERENCE_PLACEHOLDER + "\"}";
+    /** Değeri yer tutucuyla değiştirilen JSON anahtarları (büyük/küçük harf duyarsız). */
+    private static final List<String> REFERENCE_KEYS = Arrays.asList(
+            "reference", "referenceNo", "reference_no", "referenceNumber", "referenceId",
+            "refNo", "ref_no", "referans", "referansNo", "referans_no");
+    private static final Pattern REFERENCE_FIELD = Pattern.compile(
+            "(\"(?i:" + String.join("|", REFERENCE_KEYS) + ")\"\\s*:\\s*\"?)([A-Za-z0-9-]+)");
+    private static final List<String> FORWARDED_HEADERS = Arrays.asList(
+            "Accept", "Accept-Language", "Content-Type", "Cookie", "User-Agent", "X-Requested-With");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SiteArchive archive;
+    private final String upstreamUrl;
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong submissions = new AtomicLong();
+
+    private ArchiveServer(SiteArchive archive, String upstreamUrl) throws IOException {
+        this.archive = archive;
+        this.upstreamUrl = upstreamUrl;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "archive-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * İstekleri canlı siteye ileterek arşive kaydeden sunucuyu başlatır.
+     */
+    public static ArchiveServer record(SiteArchive archive, String upstreamUrl) throws IOException {
+        ArchiveServer server = new ArchiveServer(archive, upstreamUrl);
+        logger.info("Recording {} through {}", upstreamUrl, server.getBaseUrl());
+        return server;
+    }
+
+    /**
+     * Yalnızca arşivden yanıt veren sunucuyu başlatır.
+     */
+    public static ArchiveServer replay(SiteArchive archive) throws IOException {
+        ArchiveServer server = new ArchiveServer(archive, null);
+        logger.info("Replaying {} recorded response(s) at {}", archive.size(), server.getBaseUrl());
+        return server;
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        if (upstreamUrl != null) {
+            try {
+                archive.save();
+            } catch (IOException e) {
+                logger.error("Failed to save site archive.", e);
+            }
+        }
+        logger.info("Archive server stopped: {} request(s) served, {} without a recorded response.",
+                served.get(), misses.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            String pathAndQuery = exchange.getRequestURI().getRawPath()
+                    + (exchange.getRequestURI().getRawQuery() != null ? "?" + exchange.getRequestURI().getRawQuery() : "");
+            byte[] requestBody = readAll(exchange.getRequestBody());
+            served.incrementAndGet();
+            if (upstreamUrl != null) {
+                record(exchange, method, pathAndQuery, requestBody);
+            } else {
+                replay(exchange, method, pathAndQuery, requestBody);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to serve {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            if (exchange.getResponseCode() < 0) {
+                exchange.sendResponseHeaders(502, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void record(HttpExchange exchange, String method, String pathAndQuery, byte[] requestBody)
+            throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) URI.create(upstreamUrl + pathAndQuery).toURL()
+                .openConnection();
+        connection.setInstanceFollowRedirects(false);
+        connection.setRequestMethod(method);
+        for (String header : FORWARDED_HEADERS) {
+            String value = exchange.getRequestHeaders().getFirst(header);
+            if (value != null) {
+                connection.setRequestProperty(header, value);
+            }
+        }
+        // Gövdelerin sıkıştırılmadan gelmesi için; adres yeniden yazımı düz metin üzerinde yapılır
+        connection.setRequestProperty("Accept-Encoding", "identity");
+        if (requestBody.length > 0) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(requestBody);
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream responseStream = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        byte[] body = responseStream != null ? readAll(responseStream) : new byte[0];
+        String contentType = connection.getContentType();
+        String location = connection.getHeaderField("Location");
+        if (location != null) {
+            location = toLocal(location);
+        }
+        if (isText(contentType)) {
+            body = toLocal(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] stored = "POST".equals(method) ? toTemplate(body) : body;
+        archive.put(method, pathAndQuery, status, contentType, location, stored);
+
+        List<String> cookies = connection.getHeaderFields().get("Set-Cookie");
+        if (cookies != null) {
+            for (String cookie : cookies) {
+                // localhost üzerinde kabul edilmesi için alan adı ve Secure bayrağı kaldırılır
+                exchange.getResponseHeaders().add("Set-Cookie",
+                        cookie.replaceAll("(?i);\\s*Domain=[^;]*", "").replaceAll("(?i);\\s*Secure", ""));
+            }
+        }
+        logger.debug("Recorded {} {} -> {}", method, pathAndQuery, status);
+        send(exchange, status, contentType, location, body);
+    }
+
+    private void replay(HttpExchange exchange, String method, String pathAndQuery, byte[] requestBody)
+            throws IOException {
+        SiteArchive.Entry entry = archive.get(method, pathAndQuery);
+
+        if ("POST".equals(method)) {
+            String template = entry != null
+                    ? new String(archive.body(entry), StandardCharsets.UTF_8) : DEFAULT_POST_STUB;
+            String reference = referenceFor(submissions.incrementAndGet(), pathAndQuery, requestBody);
+            byte[] body = template.replace(REFERENCE_PLACEHOLDER, reference).getBytes(StandardCharsets.UTF_8);
+            send(exchange, entry != null ? entry.getStatus() : 200,
+                    entry != null ? entry.getContentType() : "application/json; charset=utf-8",
+                    entry != null ? entry.getLocation() : null, body);
+            return;
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            logger.warn("No recorded response for {} {}", method, pathAndQuery);
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        send(exchange, entry.getStatus(), entry.getContentType(), entry.getLocation(), archive.body(entry));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String location, byte[] body)
+            throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        if (contentType != null) {
+            headers.set("Content-Type", contentType);
+        }
+        if (location != null) {
+            headers.set("Location", location);
+        }
+        boolean noBody = body.length == 0 || status == 204 || status == 304 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Canlı site adreslerini (JSON içinde kaçışlı halleri dahil) köke göre yazar.
+     */
+    private String toLocal(String text) {
+        return text.replace(upstreamUrl, "").replace(upstreamUrl.replace("/", "\\/"), "");
+    }
+
+    /**
+     * Kaydedilen POST yanıtındaki referans alanlarının değerlerini yer tutucuyla değiştirir.
+     */
+    private static byte[] toTemplate(byte[] body) {
+        Matcher matcher = REFERENCE_FIELD.matcher(new String(body, StandardCharsets.UTF_8));
+        return matcher.replaceAll("$1" + Matcher.quoteReplacement(REFERENCE_PLACEHOLDER))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gönderim sırası, yol ve gövdeden 10 haneli, her koşuda aynı olan referans numarası üretir.
+     */
+    static String referenceFor(long sequence, String pathAndQuery, byte[] requestBody) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+        crc.update(pathAndQuery.getBytes(StandardCharsets.UTF_8));
+        crc.update(requestBody);
+        return String.format("%010d", crc.getValue());
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("javascript") || type.contains("json") || type.contains("xml");
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.paytr.fixture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Testlerin kullandığı site adresini tek noktadan sağlar.
+ * Canlı modda {@code -Dpaytr.baseUrl} (varsayılan: https://www.paytr.com) döner; record ve replay
+ * modlarında ilk çağrıda yerel {@link ArchiveServer} başlatılır ve onun adresi döner.
+ * Arşiv dizini {@code -Dsite.archive} ile verilir (varsayılan: src/test/resources/site-archive).
+ */
+public final class Site {
+
+    private static final Logger logger = LogManager.getLogger(Site.class);
+    private static final String DEFAULT_BASE_URL = "https://www.paytr.com";
+    private static final String DEFAULT_ARCHIVE_DIR = "src/test/resources/site-archive";
+
+    private static String baseUrl;
+    private static ArchiveServer server;
+
+    private Site() {
+    }
+
+    /**
+     * Sitenin kök adresini, sonunda "/" olmadan döndürür.
+     */
+    public static synchronized String baseUrl() {
+        if (baseUrl == null) {
+            String configured = stripTrailingSlash(System.getProperty("paytr.baseUrl", DEFAULT_BASE_URL));
+            SiteMode mode = SiteMode.current();
+            if (mode == SiteMode.LIVE) {
+                baseUrl = configured;
+            } else {
+                server = startServer(mode, configured);
+                baseUrl = server.getBaseUrl();
+            }
+            logger.info("Site mode {}, base URL {}", mode, baseUrl);
+        }
+        return baseUrl;
+    }
+
+    /**
+     * Verilen yolu (ör. "/linkle-odeme") sitenin kök adresine ekler.
+     */
+    public static String url(String path) {
+        return baseUrl() + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    /**
+     * Yerel sunucu çalışıyorsa durdurur; record modunda arşiv diske yazılır. Koşunun sonunda çağrılır.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.close();
+            server = null;
+        }
+        baseUrl = null;
+    }
+
+    private static ArchiveServer startServer(SiteMode mode, String upstreamUrl) {
+        Path archiveDir = Paths.get(System.getProperty("site.archive", DEFAULT_ARCHIVE_DIR));
+        try {
+            SiteArchive archive = SiteArchive.open(archiveDir);
+            if (mode == SiteMode.RECORD) {
+                return ArchiveServer.record(archive, upstreamUrl);
+            }
+            if (archive.size() == 0) {
+                throw new IllegalStateException("Site archive is empty: " + archiveDir
+                        + ". Record one first with -Dsite.mode=record.");
+            }
+            return ArchiveServer.replay(archive);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start " + mode + " server for archive: " + archiveDir, e);
+        }
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,166 @@
+package com.paytr.fixture;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kaydedilen HTTP yanıtlarının disk üzerindeki arşivi.
+ * index.json, "METHOD /yol?sorgu" anahtarlarını durum kodu, içerik tipi ve gövde dosyasına eşler;
+ * gövdeler bodies/ altında SHA-256 özetleriyle saklanır, aynı içerik yalnızca bir kez yazılır.
+ */
+public final class SiteArchive {
+
+    private static final Logger logger = LogManager.getLogger(SiteArchive.class);
+    private static final String INDEX_FILE = "index.json";
+    private static final String BODY_DIR = "bodies";
+
+    private final Path directory;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private SiteArchive(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Dizindeki arşivi yükler; dizin ya da index.json yoksa boş bir arşiv döner.
+     */
+    public static SiteArchive open(Path directory) throws IOException {
+        SiteArchive archive = new SiteArchive(directory);
+        Path index = directory.resolve(INDEX_FILE);
+        if (Files.exists(index)) {
+            String json = new String(Files.readAllBytes(index), StandardCharsets.UTF_8);
+            Map<String, Object> stored = new Json().toType(json, Json.MAP_TYPE);
+            for (Map.Entry<String, Object> item : stored.entrySet()) {
+                archive.entries.put(item.getKey(), Entry.fromMap((Map<?, ?>) item.getValue()));
+            }
+            logger.info("Loaded {} recorded response(s) from {}", archive.entries.size(), directory);
+        }
+        return archive;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Kayıtlı yanıtı döndürür. Birebir eşleşme yoksa sorgu parametreleri atılarak tekrar aranır
+     * (ör. önbellek kırmak için eklenen zaman damgaları); yine yoksa null döner.
+     */
+    public Entry get(String method, String pathAndQuery) {
+        Entry entry = entries.get(key(method, pathAndQuery));
+        if (entry == null && pathAndQuery.indexOf('?') >= 0) {
+            entry = entries.get(key(method, pathAndQuery.substring(0, pathAndQuery.indexOf('?'))));
+        }
+        return entry;
+    }
+
+    /**
+     * Yanıtı arşive ekler; aynı anahtar daha önce kaydedildiyse üzerine yazar.
+     */
+    public void put(String method, String pathAndQuery, int status, String contentType, String location,
+                    byte[] body) throws IOException {
+        String bodyFile = BODY_DIR + "/" + sha256(body);
+        Path target = directory.resolve(bodyFile);
+        if (!Files.exists(target)) {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "body", ".tmp");
+            Files.write(temp, body);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        entries.put(key(method, pathAndQuery), new Entry(status, contentType, location, bodyFile));
+    }
+
+    public byte[] body(Entry entry) throws IOException {
+        return Files.readAllBytes(directory.resolve(entry.bodyFile));
+    }
+
+    /**
+     * index.json dosyasını anahtar sırasıyla yazar; böylece arşiv değişiklikleri git diff'inde okunabilir kalır.
+     */
+    public void save() throws IOException {
+        Map<String, Object> index = new TreeMap<>();
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            index.put(item.getKey(), item.getValue().toMap());
+        }
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, INDEX_FILE, ".tmp");
+        Files.write(temp, new Json().toJson(index).getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, directory.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Saved {} recorded response(s) to {}", entries.size(), directory);
+    }
+
+    private static String key(String method, String pathAndQuery) {
+        return method + " " + pathAndQuery;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Arşivdeki tek bir yanıtın üst bilgileri.
+     */
+    public static final class Entry {
+        private final int status;
+        private final String contentType;
+        private final String location;
+        private final String bodyFile;
+
+        private Entry(int status, String contentType, String location, String bodyFile) {
+            this.status = status;
+            this.contentType = contentType;
+            this.location = location;
+            this.bodyFile = bodyFile;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status);
+            map.put("contentType", contentType);
+            if (location != null) {
+                map.put("location", location);
+            }
+            map.put("body", bodyFile);
+            return map;
+        }
+
+        private static Entry fromMap(Map<?, ?> map) {
+            return new Entry(((Number) map.get("status")).intValue(), (String) map.get("contentType"),
+                    (String) map.get("location"), (String) map.get("body"));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.paytr.fixture;
+
+import java.util.Locale;
+
+/**
+ * Testlerin siteye nasıl eriştiğini belirler; {@code -Dsite.mode} ile seçilir.
+ *
+ * <ul>
+ *     <li>{@code live} (varsayılan): istekler doğrudan {@code paytr.baseUrl} adresine gider.</li>
+ *     <li>{@code record}: istekler yerel sunucu üzerinden canlı siteye iletilir, yanıtlar arşive yazılır.</li>
+ *     <li>{@code replay}: yanıtlar yalnızca arşivden sunulur; ağ erişimi gerekmez.</li>
+ * </ul>
+ */
+public enum SiteMode {
+    LIVE,
+    RECORD,
+    REPLAY;
+
+    public static SiteMode current() {
+        String value = System.getProperty("site.mode", "live");
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown site.mode: " + value
+                    + " (expected 'live', 'record' or 'replay')", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.paytr.fixture;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sabit (statik) bir site kopyasını classpath'ten sunan gömülü HTTP sunucusu.
+ * Testlerin ve benchmark'ların canlı siteye çıkmadan, tekrarlanabilir şekilde çalışması için kullanılır.
+ * "/linkle-odeme" gibi uzantısız yollar "linkle-odeme/index.html" dosyasına eşlenir.
+ */
+public final class StaticSiteServer implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(StaticSiteServer.class);
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        CONTENT_TYPES.put("html", "text/html; charset=utf-8");
+        CONTENT_TYPES.put("css", "text/css; charset=utf-8");
+        CONTENT_TYPES.put("js", "application/javascript; charset=utf-8");
+        CONTENT_TYPES.put("json", "application/json; charset=utf-8");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("png", "image/png");
+        CONTENT_TYPES.put("jpg", "image/jpeg");
+        CONTENT_TYPES.put("webp", "image/webp");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String resourceRoot;
+
+    private StaticSiteServer(HttpServer server, ExecutorService executor, String resourceRoot) {
+        this.server = server;
+        this.executor = executor;
+        this.resourceRoot = resourceRoot;
+    }
+
+    /**
+     * Classpath'teki verilen kök dizini (ör. "fixture-site") localhost'ta rastgele boş bir porttan sunar.
+     */
+    public static StaticSiteServer start(String resourceRoot) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "static-site-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        StaticSiteServer site = new StaticSiteServer(server, executor, resourceRoot);
+        server.createContext("/", site::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Serving classpath:{} at {}", resourceRoot, site.getBaseUrl());
+        return site;
+    }
+
+    /**
+     * Sunucunun kök adresi, sonunda "/" olmadan (ör. http://127.0.0.1:53124).
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    public String url(String path) {
+        return getBaseUrl() + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String resource = resourceFor(exchange.getRequestURI().getPath());
+            byte[] body = readResource(resource);
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", contentTypeOf(resource));
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String resourceFor(String path) {
+        String relative = path.replaceAll("^/+", "");
+        if (relative.contains("..")) {
+            return null;
+        }
+        if (relative.isEmpty() || relative.endsWith("/")) {
+            relative += "index.html";
+        } else if (!relative.substring(relative.lastIndexOf('/') + 1).contains(".")) {
+            relative += "/index.html";
+        }
+        return resourceRoot + "/" + relative;
+    }
+
+    private byte[] readResource(String resource) throws IOException {
+        if (resource == null) {
+            return null;
+        }
+        try (InputStream in = StaticSiteServer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static String contentTypeOf(String resource) {
+        String extension = resource.substring(resource.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        String type = CONTENT_TYPES.get(extension);
+        return type != null ? type : "application/octet-stream";
+    }
+}
@@ -0,0 +1,202 @@
+package com.paytr.metrics;
+
+import com.paytr.driver.InstrumentedChromeDriver;
+import com.paytr.wait.WaitEngine;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sayfa nesnesi aksiyonlarının (fillField, clickElement vb.) süresini, WebDriver round trip sayısını
+ * ve bekleme süresini kaydeder. Kayıtlar aksiyon, sayfa sınıfı, locator ve test ile etiketlenir;
+ * koşu sonunda p50/p95/p99 değerleriyle JSON ve Prometheus metin formatında dışa aktarılır.
+ *
+ * <ul>
+ *     <li>{@code -Dmetrics.dir}: çıktı dizini (varsayılan: target/metrics)</li>
+ *     <li>{@code -Dmetrics.enabled=false}: ölçümü tamamen kapatır</li>
+ * </ul>
+ */
+public final class ActionMetrics {
+
+    private static final Logger logger = LogManager.getLogger(ActionMetrics.class);
+    private static final ActionMetrics INSTANCE = new ActionMetrics();
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("metrics.enabled", "true"));
+    private static final ActionTimer NO_OP_TIMER = new ActionTimer(null, null, null, 0, 0, 0);
+
+    private final Map<ActionKey, ActionSamples> samples = new ConcurrentHashMap<>();
+
+    private ActionMetrics() {
+    }
+
+    public static ActionMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Bir aksiyonun ölçümünü başlatır. Dönen zamanlayıcının {@link ActionTimer#stop()} metodu
+     * finally bloğunda çağrılmalıdır.
+     */
+    public ActionTimer start(String action, Class<?> page, Object locator, WebDriver driver) {
+        if (!ENABLED) {
+            return NO_OP_TIMER;
+        }
+        ActionKey key = new ActionKey(action, page.getSimpleName(), String.valueOf(locator), currentTest());
+        return new ActionTimer(this, key, driver, System.nanoTime(), commandCount(driver),
+                WaitEngine.currentThreadWaitNanos());
+    }
+
+    void record(ActionKey key, long wallNanos, long roundTrips, long waitNanos) {
+        samples.computeIfAbsent(key, k -> new ActionSamples()).add(wallNanos, roundTrips, waitNanos);
+    }
+
+    static long commandCount(WebDriver driver) {
+        return driver instanceof InstrumentedChromeDriver ? ((InstrumentedChromeDriver) driver).getCommandCount() : 0;
+    }
+
+    private static String currentTest() {
+        String testClass = ThreadContext.get("testClass");
+        if (testClass == null) {
+            return "";
+        }
+        String testMethod = ThreadContext.get("testMethod");
+        return testMethod != null ? testClass + "#" + testMethod : testClass;
+    }
+
+    /**
+     * Toplanan ölçümleri actions.json ve actions.prom dosyalarına yazar.
+     */
+    public void export() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        Path directory = Paths.get(System.getProperty("metrics.dir", "target/metrics"));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        // Prometheus metin formatında her ailenin örnekleri tek blokta, kendi HELP/TYPE satırlarının altında olmalı
+        StringBuilder durations = new StringBuilder();
+        StringBuilder roundTrips = new StringBuilder();
+        StringBuilder waits = new StringBuilder();
+
+        for (Map.Entry<ActionKey, ActionSamples> entry : samples.entrySet()) {
+            ActionKey key = entry.getKey();
+            ActionSamples.Snapshot snapshot = entry.getValue().snapshot();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("action", key.action);
+            row.put("page", key.page);
+            row.put("locator", key.locator);
+            row.put("test", key.test);
+            row.put("count", snapshot.count);
+            row.put("p50Ms", snapshot.p50Ms);
+            row.put("p95Ms", snapshot.p95Ms);
+            row.put("p99Ms", snapshot.p99Ms);
+            row.put("totalMs", snapshot.totalMs);
+            row.put("roundTrips", snapshot.roundTrips);
+            row.put("waitMs", snapshot.waitMs);
+            rows.add(row);
+
+            String labels = String.format("action=\"%s\",page=\"%s\",locator=\"%s\",test=\"%s\"",
+                    escape(key.action), escape(key.page), escape(key.locator), escape(key.test));
+            appendQuantile(durations, labels, "0.5", snapshot.p50Ms);
+            appendQuantile(durations, labels, "0.95", snapshot.p95Ms);
+            appendQuantile(durations, labels, "0.99", snapshot.p99Ms);
+            durations.append("paytr_action_duration_ms_sum{").append(labels).append("} ")
+                    .append(format(snapshot.totalMs)).append('\n');
+            durations.append("paytr_action_duration_ms_count{").append(labels).append("} ")
+                    .append(snapshot.count).append('\n');
+            roundTrips.append("paytr_action_round_trips_total{").append(labels).append("} ")
+                    .append(snapshot.roundTrips).append('\n');
+            waits.append("paytr_action_wait_ms_total{").append(labels).append("} ")
+                    .append(format(snapshot.waitMs)).append('\n');
+        }
+
+        StringBuilder prometheus = new StringBuilder();
+        appendFamily(prometheus, "paytr_action_duration_ms", "summary",
+                "Wall time of page object actions in milliseconds.", durations);
+        appendFamily(prometheus, "paytr_action_round_trips_total", "counter",
+                "WebDriver commands sent by page object actions.", roundTrips);
+        appendFamily(prometheus, "paytr_action_wait_ms_total", "counter",
+                "Time page object actions spent waiting, in milliseconds.", waits);
+
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(directory.resolve("actions.json"), StandardCharsets.UTF_8)) {
+                writer.write(new Json().toJson(rows));
+            }
+            Files.write(directory.resolve("actions.prom"), prometheus.toString().getBytes(StandardCharsets.UTF_8));
+            logger.info("Exported metrics for {} action series to {}", rows.size(), directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export action metrics to {}", directory, e);
+        }
+    }
+
+    private static void appendFamily(StringBuilder out, String name, String type, String help,
+                                     CharSequence samples) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append(samples);
+    }
+
+    private static void appendQuantile(StringBuilder out, String labels, String quantile, double value) {
+        out.append("paytr_action_duration_ms{").append(labels).append(",quantile=\"").append(quantile)
+                .append("\"} ").append(format(value)).append('\n');
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    static final class ActionKey {
+        private final String action;
+        private final String page;
+        private final String locator;
+        private final String test;
+
+        ActionKey(String action, String page, String locator, String test) {
+            this.action = action;
+            this.page = page;
+            this.locator = locator;
+            this.test = test;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ActionKey)) {
+                return false;
+            }
+            ActionKey other = (ActionKey) o;
+            return action.equals(other.action) && page.equals(other.page)
+                    && locator.equals(other.locator) && test.equals(other.test);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = action.hashCode();
+            result = 31 * result + page.hashCode();
+            result = 31 * result + locator.hashCode();
+            result = 31 * result + test.hashCode();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.paytr.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Bir aksiyon serisine ait ham ölçümler. Yüzdelikler dışa aktarım sırasında hesaplanır.
+ */
+final class ActionSamples {
+
+    private long[] wallNanos = new long[16];
+    private int count;
+    private long roundTrips;
+    private long waitNanos;
+
+    synchronized void add(long wall, long trips, long wait) {
+        if (count == wallNanos.length) {
+            wallNanos = Arrays.copyOf(wallNanos, count * 2);
+        }
+        wallNanos[count++] = wall;
+        roundTrips += trips;
+        waitNanos += wait;
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(wallNanos, count);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long value : sorted) {
+            total += value;
+        }
+        return new Snapshot(count, percentileMs(sorted, 50), percentileMs(sorted, 95), percentileMs(sorted, 99),
+                total / 1e6, roundTrips, waitNanos / 1e6);
+    }
+
+    /**
+     * En yakın sıra (nearest-rank) yöntemiyle yüzdelik değerini milisaniye olarak hesaplar.
+     */
+    private static double percentileMs(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    static final class Snapshot {
+        final int count;
+        final double p50Ms;
+        final double p95Ms;
+        final double p99Ms;
+        final double totalMs;
+        final long roundTrips;
+        final double waitMs;
+
+        Snapshot(int count, double p50Ms, double p95Ms, double p99Ms, double totalMs, long roundTrips, double waitMs) {
+            this.count = count;
+            this.p50Ms = p50Ms;
+            this.p95Ms = p95Ms;
+            this.p99Ms = p99Ms;
+            this.totalMs = totalMs;
+            this.roundTrips = roundTrips;
+            this.waitMs = waitMs;
+        }
+    }
+}
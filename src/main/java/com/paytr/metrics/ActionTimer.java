@@ -0,0 +1,37 @@
+package com.paytr.metrics;
+
+import com.paytr.wait.WaitEngine;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Tek bir aksiyon ölçümü. {@link ActionMetrics#start} ile oluşturulur, {@link #stop()} ile kaydedilir.
+ */
+public final class ActionTimer {
+
+    private final ActionMetrics metrics;
+    private final ActionMetrics.ActionKey key;
+    private final WebDriver driver;
+    private final long startNanos;
+    private final long startCommands;
+    private final long startWaitNanos;
+
+    ActionTimer(ActionMetrics metrics, ActionMetrics.ActionKey key, WebDriver driver,
+                long startNanos, long startCommands, long startWaitNanos) {
+        this.metrics = metrics;
+        this.key = key;
+        this.driver = driver;
+        this.startNanos = startNanos;
+        this.startCommands = startCommands;
+        this.startWaitNanos = startWaitNanos;
+    }
+
+    public void stop() {
+        if (metrics == null) {
+            return;
+        }
+        metrics.record(key,
+                System.nanoTime() - startNanos,
+                ActionMetrics.commandCount(driver) - startCommands,
+                WaitEngine.currentThreadWaitNanos() - startWaitNanos);
+    }
+}
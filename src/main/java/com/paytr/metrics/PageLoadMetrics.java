@@ -0,0 +1,177 @@
+package com.paytr.metrics;
+
+import com.paytr.driver.NetworkPolicy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * driver.get ile açılan sayfaların yükleme sürelerini, etkin {@link NetworkPolicy} ile birlikte kaydeder.
+ * Sayfa başına driver.get süresi, Navigation Timing domInteractive (time-to-interactive) ve loadEventEnd
+ * değerleri tutulur; koşu sonunda metrics.dir altındaki page-load-&lt;politika&gt;.json dosyasına yazılır.
+ * Aynı dizinde politikasız bir koşunun sonucu (page-load-none.json) varsa sayfa bazında karşılaştırma loglanır.
+ */
+public final class PageLoadMetrics {
+
+    private static final Logger logger = LogManager.getLogger(PageLoadMetrics.class);
+    private static final PageLoadMetrics INSTANCE = new PageLoadMetrics();
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("metrics.enabled", "true"));
+    private static final String NAVIGATION_TIMING_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+                    "return nav ? [nav.domInteractive, nav.loadEventEnd] : null;";
+
+    private final Map<String, PageSamples> samples = new ConcurrentHashMap<>();
+
+    private PageLoadMetrics() {
+    }
+
+    public static PageLoadMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tamamlanan bir driver.get çağrısını kaydeder. about:blank gibi http olmayan adresler atlanır.
+     */
+    public void record(WebDriver driver, String url, long getNanos) {
+        if (!ENABLED || !url.startsWith("http")) {
+            return;
+        }
+        double interactiveMs = -1;
+        double loadMs = -1;
+        try {
+            Object timing = ((JavascriptExecutor) driver).executeScript(NAVIGATION_TIMING_SCRIPT);
+            if (timing instanceof List) {
+                List<?> values = (List<?>) timing;
+                interactiveMs = ((Number) values.get(0)).doubleValue();
+                // Eager yükleme stratejisinde driver.get load olayından önce dönebilir; o durumda değer 0'dır
+                loadMs = ((Number) values.get(1)).doubleValue() > 0 ? ((Number) values.get(1)).doubleValue() : -1;
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not read navigation timing for {}", url, e);
+        }
+        samples.computeIfAbsent(pageOf(url), key -> new PageSamples()).add(getNanos / 1e6, interactiveMs, loadMs);
+    }
+
+    /**
+     * Sayfa bazında p50/p95 değerlerini loglar ve page-load-&lt;politika&gt;.json dosyasına yazar.
+     */
+    public void export() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        String policy = NetworkPolicy.getInstance().describe();
+        Path directory = Paths.get(System.getProperty("metrics.dir", "target/metrics"));
+        Map<String, Map<String, Object>> baseline = "none".equals(policy)
+                ? Collections.<String, Map<String, Object>>emptyMap()
+                : readBaseline(directory.resolve("page-load-none.json"));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, PageSamples> entry : new TreeMap<>(samples).entrySet()) {
+            Map<String, Object> row = entry.getValue().toRow(entry.getKey(), policy);
+            rows.add(row);
+            logger.info("Page {} with network policy '{}': {} load(s), get p50 {} ms, time-to-interactive p50 {} ms, "
+                            + "load p50 {} ms", entry.getKey(), policy, row.get("count"), row.get("getP50Ms"),
+                    row.get("interactiveP50Ms"), row.get("loadP50Ms"));
+            Map<String, Object> before = baseline.get(entry.getKey());
+            if (before != null) {
+                logger.info("Page {} versus no policy: get p50 {} -> {} ms, time-to-interactive p50 {} -> {} ms",
+                        entry.getKey(), before.get("getP50Ms"), row.get("getP50Ms"),
+                        before.get("interactiveP50Ms"), row.get("interactiveP50Ms"));
+            }
+        }
+
+        Path file = directory.resolve("page-load-" + policy + ".json");
+        try {
+            Files.createDirectories(directory);
+            Files.write(file, new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+            logger.info("Exported page load metrics for {} page(s) to {}", rows.size(), file.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export page load metrics to {}", file, e);
+        }
+    }
+
+    private static Map<String, Map<String, Object>> readBaseline(Path file) {
+        Map<String, Map<String, Object>> byPage = new HashMap<>();
+        if (!Files.exists(file)) {
+            return byPage;
+        }
+        try {
+            List<Map<String, Object>> rows = new Json().toType(
+                    new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+            for (Map<String, Object> row : rows) {
+                byPage.put(String.valueOf(row.get("page")), row);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read page load baseline {}", file, e);
+        }
+        return byPage;
+    }
+
+    private static String pageOf(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path == null || path.isEmpty() ? "/" : path;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * Tek bir sayfanın ölçümleri; eksik değerler (-1) yüzdeliklere katılmaz, ölçüm yoksa yüzdelik null yazılır.
+     */
+    private static final class PageSamples {
+        private final List<Double> getMs = new ArrayList<>();
+        private final List<Double> interactiveMs = new ArrayList<>();
+        private final List<Double> loadMs = new ArrayList<>();
+
+        synchronized void add(double get, double interactive, double load) {
+            getMs.add(get);
+            if (interactive >= 0) {
+                interactiveMs.add(interactive);
+            }
+            if (load >= 0) {
+                loadMs.add(load);
+            }
+        }
+
+        synchronized Map<String, Object> toRow(String page, String policy) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("page", page);
+            row.put("policy", policy);
+            row.put("count", getMs.size());
+            row.put("getP50Ms", percentile(getMs, 0.50));
+            row.put("getP95Ms", percentile(getMs, 0.95));
+            row.put("interactiveP50Ms", percentile(interactiveMs, 0.50));
+            row.put("interactiveP95Ms", percentile(interactiveMs, 0.95));
+            row.put("loadP50Ms", percentile(loadMs, 0.50));
+            return row;
+        }
+
+        private static Double percentile(List<Double> values, double quantile) {
+            if (values.isEmpty()) {
+                return null;
+            }
+            List<Double> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+            return Math.round(sorted.get(Math.max(0, index)) * 10) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.paytr.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bir sayfanın Navigation, Resource ve Paint Timing ile LCP/CLS değerlerinden oluşan anlık görüntüsü.
+ * Tarayıcının ölçemediği değerler (ör. load olayı henüz gerçekleşmediyse) null'dır.
+ */
+public final class PagePerformance {
+
+    private final String url;
+    private final Double ttfbMs;
+    private final Double firstContentfulPaintMs;
+    private final Double largestContentfulPaintMs;
+    private final Double domContentLoadedMs;
+    private final Double loadMs;
+    private final double cumulativeLayoutShift;
+    private final int resourceCount;
+    private final long transferBytes;
+    private final List<String> slowestResources;
+
+    private PagePerformance(Map<?, ?> values) {
+        this.url = String.valueOf(values.get("url"));
+        this.ttfbMs = number(values.get("ttfb"));
+        this.firstContentfulPaintMs = number(values.get("fcp"));
+        this.largestContentfulPaintMs = number(values.get("lcp"));
+        this.domContentLoadedMs = number(values.get("domContentLoaded"));
+        this.loadMs = number(values.get("load"));
+        Double cls = number(values.get("cls"));
+        this.cumulativeLayoutShift = cls != null ? cls : 0;
+        Double resources = number(values.get("resourceCount"));
+        this.resourceCount = resources != null ? resources.intValue() : 0;
+        Double transfer = number(values.get("transferBytes"));
+        this.transferBytes = transfer != null ? transfer.longValue() : 0;
+
+        List<String> slowest = new ArrayList<>();
+        Object entries = values.get("slowest");
+        if (entries instanceof List) {
+            for (Object entry : (List<?>) entries) {
+                Map<?, ?> resource = (Map<?, ?>) entry;
+                slowest.add(String.format(Locale.ROOT, "%s (%.0f ms)", resource.get("name"),
+                        number(resource.get("duration"))));
+            }
+        }
+        this.slowestResources = Collections.unmodifiableList(slowest);
+    }
+
+    /**
+     * BasePage'in performans scriptinin döndürdüğü nesneden oluşturur.
+     */
+    public static PagePerformance fromScriptResult(Map<?, ?> values) {
+        return new PagePerformance(values);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Double getTtfbMs() {
+        return ttfbMs;
+    }
+
+    public Double getFirstContentfulPaintMs() {
+        return firstContentfulPaintMs;
+    }
+
+    public Double getLargestContentfulPaintMs() {
+        return largestContentfulPaintMs;
+    }
+
+    public Double getDomContentLoadedMs() {
+        return domContentLoadedMs;
+    }
+
+    public Double getLoadMs() {
+        return loadMs;
+    }
+
+    public double getCumulativeLayoutShift() {
+        return cumulativeLayoutShift;
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    public long getTransferBytes() {
+        return transferBytes;
+    }
+
+    public List<String> getSlowestResources() {
+        return slowestResources;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%s: TTFB %s ms, FCP %s ms, LCP %s ms, CLS %.3f, DOMContentLoaded %s ms, load %s ms, "
+                        + "%d resource(s), %d KB transferred",
+                url, format(ttfbMs), format(firstContentfulPaintMs), format(largestContentfulPaintMs),
+                cumulativeLayoutShift, format(domContentLoadedMs), format(loadMs), resourceCount,
+                transferBytes / 1024);
+    }
+
+    static String format(Double value) {
+        return value != null ? String.format(Locale.ROOT, "%.0f", value) : "n/a";
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+}
@@ -0,0 +1,157 @@
+package com.paytr.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sayfa performans ölçümlerinin dosya tabanlı zaman serisi.
+ * Her sayfa sınıfı için {@code -Dperf.history.dir} (varsayılan: perf-history) altında bir CSV dosyası tutulur;
+ * her ölçüm dosya kilidi altında tek satır olarak eklenir, böylece paralel JVM'lerin satırları karışmaz.
+ * Aynı JVM içindeki thread'ler dosya başına bir nesne kilidiyle sıraya sokulur; dosya kilidi JVM içinde
+ * paylaşılamaz. Yeni ölçüm loglanırken aynı sayfanın son {@value #TREND_WINDOW} ölçümünün medyanı da gösterilir;
+ * bunun için dosyanın yalnızca sonu okunur.
+ */
+public final class PerformanceHistory {
+
+    private static final Logger logger = LogManager.getLogger(PerformanceHistory.class);
+    private static final PerformanceHistory INSTANCE = new PerformanceHistory();
+    private static final String HEADER =
+            "timestamp,runId,url,ttfbMs,fcpMs,lcpMs,cls,domContentLoadedMs,loadMs,resourceCount,transferBytes\n";
+    private static final int TREND_WINDOW = 10;
+    private static final int LCP_COLUMN = 5;
+    private static final int LOAD_COLUMN = 8;
+    private static final int TAIL_CHUNK_BYTES = 4096;
+
+    private final Path directory = Paths.get(System.getProperty("perf.history.dir", "perf-history"));
+    private final Map<Path, Object> fileLocks = new ConcurrentHashMap<>();
+
+    private PerformanceHistory() {
+    }
+
+    public static PerformanceHistory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Ölçümü sayfanın CSV dosyasına ekler ve önceki ölçümlerle birlikte loglar.
+     */
+    public void append(String page, PagePerformance performance) {
+        Path file = directory.resolve(page + ".csv");
+        String line = String.join(",",
+                Instant.now().toString(),
+                System.getProperty("run.id", ""),
+                csv(performance.getUrl()),
+                PagePerformance.format(performance.getTtfbMs()),
+                PagePerformance.format(performance.getFirstContentfulPaintMs()),
+                PagePerformance.format(performance.getLargestContentfulPaintMs()),
+                String.format(Locale.ROOT, "%.4f", performance.getCumulativeLayoutShift()),
+                PagePerformance.format(performance.getDomContentLoadedMs()),
+                PagePerformance.format(performance.getLoadMs()),
+                Integer.toString(performance.getResourceCount()),
+                Long.toString(performance.getTransferBytes())) + "\n";
+
+        try {
+            Files.createDirectories(directory);
+            List<String> previous;
+            synchronized (fileLocks.computeIfAbsent(file, key -> new Object())) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    long size = channel.size();
+                    previous = readRecentLines(channel, size, TREND_WINDOW);
+                    String content = size == 0 ? HEADER + line : line;
+                    ByteBuffer bytes = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+                    long position = size;
+                    while (bytes.hasRemaining()) {
+                        position += channel.write(bytes, position);
+                    }
+                }
+            }
+            logger.info("{} performance: {} (median of last {} run(s): LCP {} ms, load {} ms)", page, performance,
+                    previous.size(), median(previous, LCP_COLUMN), median(previous, LOAD_COLUMN));
+        } catch (IOException e) {
+            logger.warn("Failed to append performance history to {}", file, e);
+        }
+    }
+
+    /**
+     * Dosyanın sonundan geriye doğru parça parça okuyarak başlık hariç son {@code count} satırı döndürür.
+     */
+    private static List<String> readRecentLines(FileChannel channel, long size, int count) throws IOException {
+        byte[] tail = new byte[0];
+        long start = size;
+        int newlines = 0;
+        while (start > 0 && newlines <= count) {
+            int chunk = (int) Math.min(TAIL_CHUNK_BYTES, start);
+            start -= chunk;
+            ByteBuffer buffer = ByteBuffer.allocate(chunk);
+            while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) > 0) {
+                // parçanın tamamı okunana kadar devam
+            }
+            for (byte b : buffer.array()) {
+                if (b == '\n') {
+                    newlines++;
+                }
+            }
+            byte[] joined = new byte[chunk + tail.length];
+            System.arraycopy(buffer.array(), 0, joined, 0, chunk);
+            System.arraycopy(tail, 0, joined, chunk, tail.length);
+            tail = joined;
+        }
+        if (tail.length == 0) {
+            return Collections.emptyList();
+        }
+        // İlk parça ya başlık satırıdır (dosyanın başına ulaşıldıysa) ya da yarım kalmış bir satırdır
+        String[] all = new String(tail, StandardCharsets.UTF_8).split("\n");
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i < all.length; i++) {
+            if (!all[i].isEmpty()) {
+                lines.add(all[i]);
+            }
+        }
+        return lines.subList(Math.max(0, lines.size() - count), lines.size());
+    }
+
+    /**
+     * Verilen satırlardaki sütunun medyanı; değer yoksa "n/a".
+     */
+    private static String median(List<String> lines, int column) {
+        List<Double> values = new ArrayList<>();
+        for (String line : lines) {
+            String[] parts = line.split(",");
+            if (parts.length > column) {
+                try {
+                    values.add(Double.parseDouble(parts[column]));
+                } catch (NumberFormatException e) {
+                    // "n/a" değerleri atlanır
+                }
+            }
+        }
+        if (values.isEmpty()) {
+            return "n/a";
+        }
+        Collections.sort(values);
+        return String.format(Locale.ROOT, "%.0f", values.get(values.size() / 2));
+    }
+
+    private static String csv(String value) {
+        return value.replace(",", "%2C");
+    }
+}
@@ -1,88 +1,358 @@
 package com.paytr.pages;
 
+import com.paytr.artifacts.FailureArtifacts;
+import com.paytr.metrics.ActionMetrics;
+import com.paytr.metrics.ActionTimer;
+import com.paytr.metrics.PagePerformance;
+import com.paytr.metrics.PerformanceHistory;
+import com.paytr.wait.NavigationTracker;
+import com.paytr.wait.UrlMatch;
+import com.paytr.wait.WaitEngine;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Tüm sayfa nesnelerinin kalıtım alacağı temel sınıf.
- * Sık kullanılan Selenium ve WebDriverWait fonksiyonları içerir.
+ * Sık kullanılan Selenium ve bekleme fonksiyonları içerir. Sınıf başına bilgiler {@link PageMetadata} ile
+ * bir kez hesaplanır; sayfa nesnesi oluşturmak yalnızca birkaç alan ataması kadar ucuzdur.
+ *
+ * Tüm sayfalar için ortak varsayılan bütçe, Core Web Vitals'ın "iyileştirme gerekli" eşiklerinin üst
+ * sınırlarıdır. Ölçümleri (perf-history) bu değerlerden belirgin biçimde farklı olan bir sayfa, kendi
+ * sınıfında {@link PerformanceBudget} ile bu varsayılanı geçersiz kılar.
  */
+@PerformanceBudget(ttfbMs = 1800, firstContentfulPaintMs = 3000, largestContentfulPaintMs = 4000,
+        cumulativeLayoutShift = 0.25, loadMs = 10000)
 public abstract class BasePage {
 
     protected WebDriver driver;
-    protected WebDriverWait wait;
+    private final PageMetadata metadata;
+    private final ElementCache elementCache = new ElementCache();
     private static final Logger logger = LogManager.getLogger(BasePage.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final boolean BUDGETS_ENABLED = Boolean.parseBoolean(System.getProperty("perf.budgets", "true"));
+
+    /**
+     * {@link #toScriptQuery(By)} ile üretilen sorguyu tarayıcıda elemente çeviren ortak fonksiyon.
+     * {@link RankedLocator} sorgularında adaylar sırayla denenir; eşleşen adayın index'i ve süresi sorguya yazılır.
+     */
+    private static final String FIND_FUNCTION = RankedLocator.XPATH_FUNCTION +
+            "function find(q) {" +
+                    "  if (q === null || q instanceof Element) return q;" +
+                    "  if (q.using === 'ranked') {" +
+                    "    var start = performance.now();" +
+                    "    q.matched = -1;" +
+                    "    for (var i = 0; i < q.candidates.length; i++) {" +
+                    "      var found = find(q.candidates[i]);" +
+                    "      if (found) { q.matched = i; break; }" +
+                    "    }" +
+                    "    q.ms = performance.now() - start;" +
+                    "    return found || null;" +
+                    "  }" +
+                    "  if (q.using === 'id') return document.getElementById(q.value);" +
+                    "  if (q.using === 'xpath') {" +
+                    "    return compiledXPath(q.value).evaluate(document, XPathResult.FIRST_ORDERED_NODE_TYPE, null)" +
+                    "        .singleNodeValue;" +
+                    "  }" +
+                    "  return document.querySelector(q.value);" +
+                    "}";
+
+    /**
+     * Her sorgu için [görünür mü, eşleşen aday index'i, aday arama süresi (ms)] döndürür;
+     * son iki değer yalnızca {@link RankedLocator} sorgularında doludur.
+     */
+    private static final String VISIBILITY_SCRIPT = FIND_FUNCTION +
+                    "function inViewport(rect) {" +
+                    "  return rect.top >= 0 && rect.left >= 0 &&" +
+                    "      rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) &&" +
+                    "      rect.right <= (window.innerWidth || document.documentElement.clientWidth);" +
+                    "}" +
+                    "function isVisible(el) {" +
+                    "  if (!el) return false;" +
+                    "  if (!inViewport(el.getBoundingClientRect())) el.scrollIntoView(true);" +
+                    "  var rect = el.getBoundingClientRect();" +
+                    "  if (rect.width === 0 || rect.height === 0) return false;" +
+                    "  if (typeof el.checkVisibility === 'function') {" +
+                    "    return el.checkVisibility({checkOpacity: true, checkVisibilityCSS: true});" +
+                    "  }" +
+                    "  var style = window.getComputedStyle(el);" +
+                    "  return style.display !== 'none' && style.visibility !== 'hidden' && style.opacity !== '0';" +
+                    "}" +
+                    "return arguments[0].map(function (q) {" +
+                    "  var visible = isVisible(find(q));" +
+                    "  var ranked = q !== null && !(q instanceof Element) && q.using === 'ranked';" +
+                    "  return [visible, ranked ? q.matched : null, ranked ? q.ms : null];" +
+                    "});";
+
+    /**
+     * Değerleri native value setter ile yazar ve React/Next.js state'inin güncellenmesi için
+     * input ve change olaylarını tetikler. Bulunamayan alanların index'lerini döndürür.
+     */
+    private static final String FILL_SCRIPT = FIND_FUNCTION +
+                    "var missing = [];" +
+                    "arguments[0].forEach(function (field, i) {" +
+                    "  var el = find(field.query);" +
+                    "  if (!el) { missing.push(i); return; }" +
+                    "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+                    "      : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+                    "  el.focus();" +
+                    "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, field.value);" +
+                    "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+                    "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+                    "  el.blur();" +
+                    "});" +
+                    "return missing;";
+
+    /**
+     * Navigation, Resource ve Paint Timing kayıtlarını ve PerformanceObserver ile LCP/CLS değerlerini
+     * tek bir asenkron çağrıda toplar. Sayfa henüz yükleniyorsa load olayı (en fazla 10 sn) beklenir.
+     */
+    private static final String PERFORMANCE_SCRIPT =
+            "var done = arguments[arguments.length - 1], vitals = {lcp: null, cls: 0}, observers = [];" +
+                    "function observe(type, handle) {" +
+                    "  try {" +
+                    "    var observer = new PerformanceObserver(function (list) { list.getEntries().forEach(handle); });" +
+                    "    observer.observe({type: type, buffered: true});" +
+                    "    observers.push({observer: observer, handle: handle});" +
+                    "  } catch (e) {}" +
+                    "}" +
+                    "observe('largest-contentful-paint', function (e) { vitals.lcp = e.renderTime || e.startTime; });" +
+                    "observe('layout-shift', function (e) { if (!e.hadRecentInput) vitals.cls += e.value; });" +
+                    "function collect() {" +
+                    "  observers.forEach(function (o) { o.observer.takeRecords().forEach(o.handle); o.observer.disconnect(); });" +
+                    "  var nav = performance.getEntriesByType('navigation')[0], paint = {}, transfer = 0;" +
+                    "  performance.getEntriesByType('paint').forEach(function (p) { paint[p.name] = p.startTime; });" +
+                    "  var resources = performance.getEntriesByType('resource');" +
+                    "  resources.forEach(function (r) { transfer += r.transferSize || 0; });" +
+                    "  var slowest = resources.slice().sort(function (a, b) { return b.duration - a.duration; })" +
+                    "      .slice(0, 5).map(function (r) { return {name: r.name, duration: r.duration}; });" +
+                    "  done({url: location.href, ttfb: nav ? nav.responseStart : null," +
+                    "      domContentLoaded: nav && nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd : null," +
+                    "      load: nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : null," +
+                    "      fcp: paint['first-contentful-paint'] || null, lcp: vitals.lcp, cls: vitals.cls," +
+                    "      resourceCount: resources.length, transferBytes: transfer, slowest: slowest});" +
+                    "}" +
+                    "function collectSoon() { setTimeout(collect, 0); }" +
+                    "if (document.readyState === 'complete') {" +
+                    "  collectSoon();" +
+                    "} else {" +
+                    "  var timer = setTimeout(collect, 10000);" +
+                    "  window.addEventListener('load', function () { clearTimeout(timer); collectSoon(); });" +
+                    "}";
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.metadata = PageMetadata.of(getClass());
+        if (metadata.hasAnnotatedFields()) {
+            PageFactory.initElements(driver, this);
+        }
+    }
+
+    /**
+     * Hata anındaki tarayıcı durumunu arka planda kaydettirir ve asıl hatayı sebep olarak taşıyan istisnayı döndürür.
+     */
+    protected RuntimeException failure(String message, Throwable cause) {
+        RuntimeException failure = new RuntimeException(message, cause);
+        FailureArtifacts.getInstance().capture(driver, metadata.getName() + " " + message, failure);
+        return failure;
     }
 
     /**
      * Verilen elementin görünür olmasını bekler.
      */
     public void waitForVisibility(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
+        waitUntil("visibilityOf(WebElement)", ExpectedConditions.visibilityOf(element));
     }
 
     /**
      * Sayfadaki belirli bir elemente scroll yapar.
+     * Görünür alan kontrolü ve scroll tek bir JavaScript çağrısında yapılır.
      */
     public void scrollToElement(WebElement element) {
-        if (!isElementInViewport(element)) {
+        ActionTimer timer = ActionMetrics.getInstance().start("scrollToElement", getClass(), "WebElement", driver);
+        try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].scrollIntoView(true);", element);
+            js.executeScript(
+                    "var el = arguments[0], rect = el.getBoundingClientRect();" +
+                            "if (!(rect.top >= 0 && rect.left >= 0 && " +
+                            "rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) && " +
+                            "rect.right <= (window.innerWidth || document.documentElement.clientWidth))) {" +
+                            "el.scrollIntoView(true);" +
+                            "}",
+                    element
+            );
+        } finally {
+            timer.stop();
         }
     }
 
     /**
-     * Elementin görünür alanda olup olmadığını kontrol eder.
+     * Verilen locator'ların her birine scroll yapar ve görünürlüklerini tek bir JavaScript çağrısında kontrol eder.
+     * Sonuç, locator sırasını koruyan bir map olarak döner; bulunamayan elementler false olarak raporlanır.
      */
-    private boolean isElementInViewport(WebElement element) {
+    public Map<By, Boolean> getVisibility(List<By> locators) {
+        List<Object> queries = new ArrayList<>();
+        for (By locator : locators) {
+            queries.add(toScriptQuery(locator));
+        }
+
         JavascriptExecutor js = (JavascriptExecutor) driver;
-        Boolean isInViewport = (Boolean) js.executeScript(
-                "var rect = arguments[0].getBoundingClientRect();" +
-                        "return (" +
-                        "rect.top >= 0 && rect.left >= 0 && " +
-                        "rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) && " +
-                        "rect.right <= (window.innerWidth || document.documentElement.clientWidth)" +
-                        ");",
-                element
-        );
-        return isInViewport != null && isInViewport;
+        List<?> results = (List<?>) js.executeScript(VISIBILITY_SCRIPT, queries);
+
+        Map<By, Boolean> visibility = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            List<?> result = (List<?>) results.get(i);
+            visibility.put(locators.get(i), Boolean.TRUE.equals(result.get(0)));
+            if (locators.get(i) instanceof RankedLocator) {
+                ((RankedLocator) locators.get(i)).recordMatch(((Number) result.get(1)).intValue(),
+                        ((Number) result.get(2)).doubleValue());
+            }
+        }
+        logger.info("Checked visibility of {} element(s) in one script call: {}", locators.size(), visibility);
+        return visibility;
+    }
+
+    /**
+     * CSS ve XPath locator'larını tarayıcıda çözülebilecek {using, value} çiftine, {@link RankedLocator}'ları
+     * aday listesine çevirir. Diğer locator türleri önceden WebDriver ile bulunup element olarak gönderilir.
+     */
+    private Object toScriptQuery(By locator) {
+        if (locator instanceof RankedLocator) {
+            return ((RankedLocator) locator).toScriptQuery();
+        }
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            String using = parameters.using();
+            if ("css selector".equals(using) || "xpath".equals(using)) {
+                Map<String, Object> query = new HashMap<>();
+                query.put("using", using);
+                query.put("value", parameters.value());
+                return query;
+            }
+        }
+        List<WebElement> elements = driver.findElements(locator);
+        return elements.isEmpty() ? null : elements.get(0);
     }
 
     /**
      * Elementin tıklanabilir olmasını bekler.
      */
     public void waitForClickability(WebElement element) {
-        wait.until(ExpectedConditions.elementToBeClickable(element));
+        waitUntil("elementToBeClickable(WebElement)", ExpectedConditions.elementToBeClickable(element));
+    }
+
+    /**
+     * Koşul sağlanana kadar paylaşılan {@link WaitEngine} ile bekler; istatistikler verilen anahtar altında tutulur.
+     */
+    protected <T> T waitUntil(String key, Function<? super WebDriver, T> condition) {
+        return WaitEngine.getInstance().until(driver, key, condition, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Locator ile bulunan elementin görünür olmasını bekler.
+     * Önbellekteki element hâlâ geçerli ve görünürse bekleme ve yeniden arama yapılmaz.
+     */
+    protected WebElement waitForVisibleElement(By locator) {
+        WebElement cached = elementCache.getDisplayed(locator);
+        if (cached != null) {
+            return cached;
+        }
+        WebElement element = waitUntil(locator.toString(), ExpectedConditions.visibilityOfElementLocated(locator));
+        elementCache.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Locator ile bulunan elemente scroll yapar ve görüntülenebilir olup olmadığını döndürür.
+     * Önbellekteki element hâlâ görünürse yeniden arama ve ikinci bir görünürlük kontrolü yapılmaz.
+     */
+    protected boolean isLocatorVisible(By locator) {
+        WebElement cached = elementCache.getDisplayed(locator);
+        if (cached != null) {
+            scrollToElement(cached);
+            return true;
+        }
+        WebElement element = driver.findElement(locator);
+        scrollToElement(element);
+        boolean displayed = isElementPresent(element);
+        if (displayed) {
+            elementCache.put(locator, element);
+        }
+        return displayed;
     }
 
     /**
      * Verilen lokator ile alanı bulur ve belirtilen metni yazar.
      */
     public void fillField(By locator, String value) {
+        ActionTimer timer = ActionMetrics.getInstance().start("fillField", getClass(), locator, driver);
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = waitForVisibleElement(locator);
             scrollToElement(element);
             element.clear();
             element.sendKeys(value);
             logger.info("Filled field {} with value: {}", locator, value);
         } catch (Exception e) {
             logger.error("Failed to fill field {} with value: {}", locator, value, e);
-            throw new RuntimeException("Failed to fill field: " + locator);
+            throw failure("Failed to fill field: " + locator, e);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Birden fazla alanı tek bir JavaScript çağrısında doldurur.
+     * keystrokeFields içindeki alanlar (ör. maskeli telefon alanları) ve sayfada henüz bulunamayan alanlar
+     * {@link #fillField(By, String)} ile gerçek tuş vuruşlarıyla doldurulur.
+     */
+    public void fillFields(Map<By, String> values, Set<By> keystrokeFields) {
+        List<By> scriptedLocators = new ArrayList<>();
+        List<Object> fields = new ArrayList<>();
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            if (keystrokeFields.contains(entry.getKey())) {
+                continue;
+            }
+            Map<String, Object> field = new HashMap<>();
+            field.put("query", toScriptQuery(entry.getKey()));
+            field.put("value", entry.getValue());
+            fields.add(field);
+            scriptedLocators.add(entry.getKey());
+        }
+
+        List<By> fallbackLocators = new ArrayList<>();
+        try {
+            if (!fields.isEmpty()) {
+                JavascriptExecutor js = (JavascriptExecutor) driver;
+                List<?> missing = (List<?>) js.executeScript(FILL_SCRIPT, fields);
+                for (Object index : missing) {
+                    fallbackLocators.add(scriptedLocators.get(((Number) index).intValue()));
+                }
+                logger.info("Filled {} field(s) in one script call.", scriptedLocators.size() - missing.size());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to fill fields with script: {}", scriptedLocators, e);
+            throw failure("Failed to fill fields: " + scriptedLocators, e);
+        }
+
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            if (keystrokeFields.contains(entry.getKey()) || fallbackLocators.contains(entry.getKey())) {
+                fillField(entry.getKey(), entry.getValue());
+            }
         }
     }
 
@@ -90,15 +360,18 @@ public abstract class BasePage {
      * Belirli bir locatordan bulduğu elemana tıklar (scroll + click).
      */
     public void clickElement(By locator) {
+        ActionTimer timer = ActionMetrics.getInstance().start("clickElement", getClass(), locator, driver);
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = waitForVisibleElement(locator);
             scrollToElement(element);
-            waitForClickability(element);
+            waitUntil(locator + " [clickable]", ExpectedConditions.elementToBeClickable(element));
             element.click();
             logger.info("Clicked element by locator: {}", locator);
         } catch (Exception e) {
             logger.error("Failed to click element by locator: {}", locator, e);
-            throw new RuntimeException("Failed to click element by locator: " + locator);
+            throw failure("Failed to click element by locator: " + locator, e);
+        } finally {
+            timer.stop();
         }
     }
 
@@ -106,6 +379,7 @@ public abstract class BasePage {
      * Bir elementi JavaScript ile tıklamak için kullanılır.
      */
     public void jsClickElement(By locator) {
+        ActionTimer timer = ActionMetrics.getInstance().start("jsClickElement", getClass(), locator, driver);
         try {
             WebElement element = driver.findElement(locator);
             JavascriptExecutor js = (JavascriptExecutor) driver;
@@ -113,7 +387,9 @@ public abstract class BasePage {
             logger.info("Elemente JS ile tıklandı: {}", locator);
         } catch (Exception e) {
             logger.error("JS ile tıklama başarısız: {}", locator, e);
-            throw new RuntimeException("JS ile tıklama başarısız: " + locator);
+            throw failure("JS ile tıklama başarısız: " + locator, e);
+        } finally {
+            timer.stop();
         }
     }
 
@@ -121,14 +397,17 @@ public abstract class BasePage {
      * Verilen locator ile elementin metnini alır.
      */
     public String getElementText(By locator) {
+        ActionTimer timer = ActionMetrics.getInstance().start("getElementText", getClass(), locator, driver);
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = waitForVisibleElement(locator);
             String text = element.getText();
             logger.info("Text of element {}: {}", locator, text);
             return text;
         } catch (Exception e) {
             logger.error("Failed to get text of element: {}", locator, e);
-            throw new RuntimeException("Failed to get text of element: " + locator);
+            throw failure("Failed to get text of element: " + locator, e);
+        } finally {
+            timer.stop();
         }
     }
 
@@ -146,27 +425,93 @@ public abstract class BasePage {
 
     /**
      * Mevcut URL'nin beklenen URL ile eşleşip eşleşmediğini kontrol eder.
+     * Sondaki "/", sorgu ve fragment farkları yok sayılır ({@link UrlMatch#normalized(String)}).
      */
     public boolean verifyCurrentUrl(String expectedUrl) {
+        return verifyCurrentUrl(UrlMatch.normalized(expectedUrl));
+    }
+
+    /**
+     * Mevcut URL'nin verilen kurala (tam, önek, regex veya normalize) uymasını bekler.
+     * Bekleme, tarayıcının navigasyon olaylarıyla tamamlanır; URL her navigasyonda bir kez okunur.
+     */
+    public boolean verifyCurrentUrl(UrlMatch expected) {
+        ActionTimer timer = ActionMetrics.getInstance().start("verifyCurrentUrl", getClass(), expected.toString(), driver);
         try {
-            WebDriverWait urlWait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            boolean isUrlMatched = urlWait.until((ExpectedCondition<Boolean>) drv -> {
-                if (drv == null) return false;
-                String currentUrl = drv.getCurrentUrl();
-                logger.info("Checking URL... Current: {}", currentUrl);
-                return currentUrl.equals(expectedUrl);
-            });
-
-            if (isUrlMatched) {
-                logger.info("Current URL matches expected URL: {}", expectedUrl);
+            String matchedUrl = NavigationTracker.getInstance().awaitUrl(driver, expected, DEFAULT_TIMEOUT);
+
+            if (matchedUrl != null) {
+                logger.info("Current URL {} matches expected URL: {}", matchedUrl, expected);
                 return true;
             } else {
-                logger.warn("Current URL does not match. Expected: {}, Actual: {}", expectedUrl, driver.getCurrentUrl());
+                logger.warn("Current URL does not match. Expected: {}, Actual: {}", expected, driver.getCurrentUrl());
                 return false;
             }
         } catch (Exception e) {
-            logger.error("Error verifying current URL. Expected: {}", expectedUrl, e);
+            logger.error("Error verifying current URL. Expected: {}", expected, e);
+            FailureArtifacts.getInstance().capture(driver, metadata.getName() + " verifyCurrentUrl", e);
             return false;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Mevcut sayfanın performans ölçümlerini toplar ve sayfa sınıfının geçmiş dosyasına ekler.
+     * driver.get ya da sayfa değiştiren bir tıklamadan sonra çağrılır.
+     */
+    public PagePerformance capturePerformance() {
+        ActionTimer timer = ActionMetrics.getInstance().start("capturePerformance", getClass(), "page", driver);
+        try {
+            Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeAsyncScript(PERFORMANCE_SCRIPT);
+            PagePerformance performance = PagePerformance.fromScriptResult(result);
+            PerformanceHistory.getInstance().append(metadata.getName(), performance);
+            return performance;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Performans ölçümlerini toplar ve sayfa sınıfının (yoksa bu sınıfın) {@link PerformanceBudget} sınırlarıyla
+     * karşılaştırır.
+     * Aşılan sınırlar tek bir AssertionError ile raporlanır. {@code -Dperf.budgets=false} ile yalnızca ölçüm yapılır.
+     */
+    public PagePerformance assertPerformanceBudget() {
+        PagePerformance performance = capturePerformance();
+        PerformanceBudget budget = metadata.getBudget();
+        if (budget == null || !BUDGETS_ENABLED) {
+            return performance;
+        }
+
+        List<String> violations = new ArrayList<>();
+        checkBudget(violations, "TTFB", performance.getTtfbMs(), budget.ttfbMs(), "ms");
+        checkBudget(violations, "FCP", performance.getFirstContentfulPaintMs(), budget.firstContentfulPaintMs(), "ms");
+        checkBudget(violations, "LCP", performance.getLargestContentfulPaintMs(), budget.largestContentfulPaintMs(), "ms");
+        checkBudget(violations, "DOMContentLoaded", performance.getDomContentLoadedMs(), budget.domContentLoadedMs(), "ms");
+        checkBudget(violations, "load", performance.getLoadMs(), budget.loadMs(), "ms");
+        checkBudget(violations, "CLS", performance.getCumulativeLayoutShift(), budget.cumulativeLayoutShift(), "");
+        checkBudget(violations, "resources", (double) performance.getResourceCount(), budget.resourceCount(), "");
+        checkBudget(violations, "transfer", performance.getTransferBytes() / 1024.0, budget.transferKb(), "KB");
+
+        if (!violations.isEmpty()) {
+            logger.error("{} exceeded its performance budget: {}. Slowest resources: {}", metadata.getName(),
+                    violations, performance.getSlowestResources());
+            throw new AssertionError(metadata.getName() + " exceeded its performance budget: "
+                    + String.join("; ", violations) + " (" + performance.getUrl() + ")");
         }
+        logger.info("{} is within its performance budget.", metadata.getName());
+        return performance;
+    }
+
+    private static void checkBudget(List<String> violations, String metric, Double actual, double limit, String unit) {
+        if (limit < 0 || actual == null || actual <= limit) {
+            return;
+        }
+        violations.add(String.format(Locale.ROOT, "%s %s%s > %s%s", metric, trim(actual), unit, trim(limit), unit));
+    }
+
+    private static String trim(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : String.format(Locale.ROOT, "%.3f", value);
     }
 }
@@ -0,0 +1,83 @@
+package com.paytr.pages;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sayfa nesnesi başına, locator ile anahtarlanan WebElement önbelleği.
+ * Önbellekteki element tek bir isDisplayed() çağrısıyla doğrulanır; sayfa değiştiğinde element
+ * bayatlayacağı (stale) için yeniden çözümlenir. Sayfa nesneleri tek bir thread'e ait olduğundan
+ * örnek seviyesinde senkronizasyon yapılmaz; isabet sayaçları ise tüm koşu için ortaktır.
+ */
+public final class ElementCache {
+
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+
+    /**
+     * Önbellekteki element hâlâ sayfada ve görünürse onu döndürür; aksi halde kaydı siler ve null döner.
+     */
+    WebElement getDisplayed(By locator) {
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            try {
+                if (element.isDisplayed()) {
+                    hits.incrementAndGet();
+                    return element;
+                }
+            } catch (StaleElementReferenceException e) {
+                // Sayfa değişmiş, element yeniden bulunacak
+            } catch (WebDriverException e) {
+                // Doğrulama yapılamadı, güvenli tarafta kalıp yeniden çözümle
+            }
+            elements.remove(locator);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    void put(By locator, WebElement element) {
+        elements.put(locator, element);
+    }
+
+    void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Tüm sayfa nesnelerinin koşu boyunca toplam isabet ve ıskalama sayılarını loglar. Koşunun sonunda çağrılır.
+     */
+    public static void logReport() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        if (hitCount + missCount == 0) {
+            return;
+        }
+        logger.info("Element cache (whole run, all pages): {} hit(s), {} miss(es).", hitCount, missCount);
+    }
+
+    /**
+     * Koşu boyunca önbellekten karşılanan element çözümleme sayısı.
+     */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Koşu boyunca önbellekte bulunamayıp yeniden çözümlenen element sayısı.
+     */
+    public static long getMisses() {
+        return misses.get();
+    }
+}
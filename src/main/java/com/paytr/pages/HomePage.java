@@ -1,24 +1,81 @@
 package com.paytr.pages;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Ana sayfadaki (www.paytr.com) slider ve ek bileşenleri yöneten Page sınıfı.
  */
 public class HomePage extends BasePage {
 
+    private static final Logger logger = LogManager.getLogger(HomePage.class);
+
     private static final String SLIDER_CARD_CSS_SELECTOR = "[tab-id] [aria-live] [role='group']:nth-of-type(%d)";
     private static final By NEXT_BUTTON_SELECTOR = By.cssSelector(".next-btn-container.custom-swiper-button-next");
+    private static final int MAX_SLIDE_ATTEMPTS = 5;
+    private static final long SLIDE_TRANSITION_TIMEOUT_MS = 3000;
+
+    /**
+     * Butona tıklar ve hedef kart aktif olana (swiper-slide-active sınıfını alana ya da slider'ın görünür alanına
+     * tamamen girene) kadar bekler. Görünür alan, kaydırılan .swiper-wrapper değil, sabit kalan .swiper kutusudur.
+     * Tıklama yalnızca kart zaten aktif sınıfını taşıyorsa ya da slider sona gelmişse (ileri butonu devre dışı)
+     * ve kart görünürse atlanır.
+     */
+    private static final String SLIDE_AND_WAIT_SCRIPT =
+            "var nextButton = arguments[0], card = document.querySelector(arguments[1]);" +
+                    "var timeoutMs = arguments[2], done = arguments[arguments.length - 1];" +
+                    "if (!card) { done(false); return; }" +
+                    "var container = card.closest('[aria-live]') || card.parentElement;" +
+                    "var viewport = card.closest('.swiper') || card.closest('[tab-id]') || container.parentElement;" +
+                    "function hasActiveClass() { return card.classList.contains('swiper-slide-active'); }" +
+                    "function isInViewport() {" +
+                    "  var v = viewport.getBoundingClientRect(), r = card.getBoundingClientRect();" +
+                    "  return r.width > 0 && r.left >= v.left - 1 && r.right <= v.right + 1;" +
+                    "}" +
+                    "function isActive() { return hasActiveClass() || isInViewport(); }" +
+                    "var atEnd = nextButton.classList.contains('swiper-button-disabled')" +
+                    "  || nextButton.getAttribute('aria-disabled') === 'true';" +
+                    "if (hasActiveClass() || (atEnd && isInViewport())) { done(true); return; }" +
+                    "var finished = false, observer, timer;" +
+                    "function finish(result) {" +
+                    "  if (finished) return;" +
+                    "  finished = true;" +
+                    "  observer.disconnect();" +
+                    "  container.removeEventListener('transitionend', check, true);" +
+                    "  clearTimeout(timer);" +
+                    "  done(result);" +
+                    "}" +
+                    "function check() { if (isActive()) finish(true); }" +
+                    "observer = new MutationObserver(check);" +
+                    "observer.observe(container, {attributes: true, subtree: true, attributeFilter: ['class', 'style']});" +
+                    "container.addEventListener('transitionend', check, true);" +
+                    "timer = setTimeout(function () { finish(isActive()); }, timeoutMs);" +
+                    "nextButton.click();";
 
     // Ekstra kontrol edilmesi gereken elementler
     private static final By PRODUCT_MANAGEMENT = By.id("urunleri-magaza-panelinizden-kolayca-yonetin");
     private static final By FOR_DEVELOPERS = By.id("gelistiriciler-icin");
-    private static final By WHY_CHOOSE_US = By.xpath("/html/body/div[1]/div[4]/h2");
-    private static final By BUSINESS_PARTNERS = By.xpath("/html/body/div[1]/section[5]/div[1]/h2");
-    private static final By FAQ_SECTION = By.xpath("/html/body/div[1]/section[6]/div[1]/h2");
+    // Önce eski mutlak XPath'lerin CSS karşılığı, yerleşim değişirse başlık metnine göre arama denenir
+    private static final By WHY_CHOOSE_US = RankedLocator.named("Why Choose Us")
+            .css("body > div:nth-of-type(1) > div:nth-of-type(4) > h2")
+            .xpath("//h2[contains(normalize-space(.), 'Neden')]")
+            .build();
+    private static final By BUSINESS_PARTNERS = RankedLocator.named("Business Partners")
+            .css("body > div:nth-of-type(1) > section:nth-of-type(5) > div:nth-of-type(1) > h2")
+            .xpath("//section//h2[contains(normalize-space(.), 'İş Ortak')]")
+            .build();
+    private static final By FAQ_SECTION = RankedLocator.named("FAQ Section")
+            .css("body > div:nth-of-type(1) > section:nth-of-type(6) > div:nth-of-type(1) > h2")
+            .xpath("//section//h2[contains(normalize-space(.), 'Sıkça Sorulan')]")
+            .build();
 
     public HomePage(WebDriver driver) {
         super(driver);
@@ -46,72 +103,79 @@ public class HomePage extends BasePage {
     }
 
     /**
-     * Slider'ı sağa doğru kaydırarak bir sonraki karta geçmeye çalışır.
+     * Slider'ı sağa doğru kaydırarak bir sonraki karta geçer.
+     * Tıklamadan sonra swiper'ın transitionend olayı ve [aria-live] üzerindeki DOM değişiklikleri dinlenir;
+     * hedef kart aktif olduğu anda tarayıcıdan tek bir yanıt döner. Geçiş zaman aşımına uğrarsa tekrar tıklanır.
      */
     public void slideRight(int currentCardIndex) {
         WebElement nextButton = driver.findElement(NEXT_BUTTON_SELECTOR);
+        String targetSelector = String.format(SLIDER_CARD_CSS_SELECTOR, currentCardIndex + 1);
         JavascriptExecutor js = (JavascriptExecutor) driver;
-        int attempts = 0;
-        boolean isNextCardVisible = false;
-
-        while (attempts < 5) {
-            js.executeScript("arguments[0].click();", nextButton);
-            if (isCardVisible(currentCardIndex + 1)) {
-                isNextCardVisible = true;
-                break;
+
+        for (int attempt = 1; attempt <= MAX_SLIDE_ATTEMPTS; attempt++) {
+            Object isTargetActive = js.executeAsyncScript(SLIDE_AND_WAIT_SCRIPT, nextButton, targetSelector,
+                    SLIDE_TRANSITION_TIMEOUT_MS);
+            if (Boolean.TRUE.equals(isTargetActive)) {
+                return;
             }
-            attempts++;
+            logger.warn("Card {} did not become active after slide attempt {}.", currentCardIndex + 1, attempt);
         }
 
-        if (!isNextCardVisible) {
-            throw new RuntimeException(
-                    "Bir sonraki kart 5 denemede de görünür olmadı. Mevcut kart index: " + currentCardIndex
-            );
-        }
+        throw failure(
+                "Bir sonraki kart " + MAX_SLIDE_ATTEMPTS + " denemede de görünür olmadı. Mevcut kart index: "
+                        + currentCardIndex, null
+        );
+    }
+
+    /**
+     * Ek bölümlerin (Ürün Yönetimi, Geliştiriciler İçin, Neden Biz, İş Ortaklarımız, SSS) görünürlüğünü
+     * tek bir tarayıcı çağrısında kontrol eder. Anahtarlar bölüm adlarıdır.
+     */
+    public Map<String, Boolean> getAdditionalElementVisibility() {
+        Map<By, Boolean> visibility = getVisibility(Arrays.asList(
+                PRODUCT_MANAGEMENT, FOR_DEVELOPERS, WHY_CHOOSE_US, BUSINESS_PARTNERS, FAQ_SECTION));
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        result.put("Product Management", visibility.get(PRODUCT_MANAGEMENT));
+        result.put("For Developers", visibility.get(FOR_DEVELOPERS));
+        result.put("Why Choose Us", visibility.get(WHY_CHOOSE_US));
+        result.put("Business Partners", visibility.get(BUSINESS_PARTNERS));
+        result.put("FAQ Section", visibility.get(FAQ_SECTION));
+        return result;
     }
 
     /**
      * "Ürün Yönetimi" başlığının görünürlüğünü kontrol eder.
      */
     public boolean isProductManagementVisible() {
-        WebElement element = driver.findElement(PRODUCT_MANAGEMENT);
-        scrollToElement(element);
-        return isElementPresent(element);
+        return isLocatorVisible(PRODUCT_MANAGEMENT);
     }
 
     /**
      * "Geliştiriciler İçin" başlığının görünürlüğünü kontrol eder.
      */
     public boolean isForDevelopersVisible() {
-        WebElement element = driver.findElement(FOR_DEVELOPERS);
-        scrollToElement(element);
-        return isElementPresent(element);
+        return isLocatorVisible(FOR_DEVELOPERS);
     }
 
     /**
      * "Neden bizi tercih etmelisiniz?" başlığının görünürlüğünü kontrol eder.
      */
     public boolean isWhyChooseUsVisible() {
-        WebElement element = driver.findElement(WHY_CHOOSE_US);
-        scrollToElement(element);
-        return isElementPresent(element);
+        return isLocatorVisible(WHY_CHOOSE_US);
     }
 
     /**
      * "İş Ortaklarımız" başlığının görünürlüğünü kontrol eder.
      */
     public boolean isBusinessPartnersVisible() {
-        WebElement element = driver.findElement(BUSINESS_PARTNERS);
-        scrollToElement(element);
-        return isElementPresent(element);
+        return isLocatorVisible(BUSINESS_PARTNERS);
     }
 
     /**
      * SSS (FAQ) bölümünün görünürlüğünü kontrol eder.
      */
     public boolean isFAQSectionVisible() {
-        WebElement element = driver.findElement(FAQ_SECTION);
-        scrollToElement(element);
-        return isElementPresent(element);
+        return isLocatorVisible(FAQ_SECTION);
     }
 }
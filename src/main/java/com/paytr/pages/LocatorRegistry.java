@@ -0,0 +1,95 @@
+package com.paytr.pages;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Tanımlanan tüm {@link RankedLocator}'ların ve hangi adaylarının ne sıklıkla eşleştiğinin kaydı.
+ * Koşu sonundaki rapor, hiç eşleşmeyen (kaldırılabilecek) adayları ve yedeğe düşülen durumları gösterir.
+ */
+public final class LocatorRegistry {
+
+    private static final Logger logger = LogManager.getLogger(LocatorRegistry.class);
+    private static final LocatorRegistry INSTANCE = new LocatorRegistry();
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    private LocatorRegistry() {
+    }
+
+    public static LocatorRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    void register(RankedLocator locator) {
+        Stats previous = stats.putIfAbsent(locator.getName(), new Stats(locator));
+        if (previous != null && !previous.locator.getCandidates().equals(locator.getCandidates())) {
+            logger.warn("Ranked locator '{}' is defined more than once; reporting the first definition.",
+                    locator.getName());
+        }
+    }
+
+    void record(RankedLocator locator, int candidateIndex, double browserMillis) {
+        Stats entry = stats.get(locator.getName());
+        if (entry == null) {
+            return;
+        }
+        entry.lookups.incrementAndGet();
+        entry.browserMillis.add(browserMillis);
+        if (candidateIndex < 0) {
+            entry.misses.incrementAndGet();
+        } else {
+            entry.hits.incrementAndGet(candidateIndex);
+        }
+    }
+
+    /**
+     * Locator başına arama sayısını, ortalama tarayıcı süresini ve aday bazında eşleşmeleri loglar.
+     */
+    public void logReport() {
+        for (Stats entry : stats.values()) {
+            long lookups = entry.lookups.get();
+            if (lookups == 0) {
+                continue;
+            }
+            List<RankedLocator.Candidate> candidates = entry.locator.getCandidates();
+            StringBuilder matches = new StringBuilder();
+            for (int i = 0; i < candidates.size(); i++) {
+                matches.append(String.format(Locale.ROOT, "%n    #%d %s: %d", i + 1, candidates.get(i),
+                        entry.hits.get(i)));
+            }
+            logger.info("Ranked locator '{}': {} lookup(s), {} miss(es), avg {} ms in browser; matches per candidate:{}",
+                    entry.locator.getName(), lookups, entry.misses.get(),
+                    String.format(Locale.ROOT, "%.2f", entry.browserMillis.sum() / lookups), matches);
+
+            for (int i = 1; i < candidates.size(); i++) {
+                if (entry.hits.get(i) > 0) {
+                    logger.warn("Ranked locator '{}' fell back to candidate #{} ({}) {} time(s); "
+                                    + "the higher-ranked candidates no longer match.",
+                            entry.locator.getName(), i + 1, candidates.get(i), entry.hits.get(i));
+                }
+            }
+        }
+    }
+
+    private static final class Stats {
+        private final RankedLocator locator;
+        private final AtomicLongArray hits;
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong lookups = new AtomicLong();
+        private final DoubleAdder browserMillis = new DoubleAdder();
+
+        private Stats(RankedLocator locator) {
+            this.locator = locator;
+            this.hits = new AtomicLongArray(locator.getCandidates().size());
+        }
+    }
+}
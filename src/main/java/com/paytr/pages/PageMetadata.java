@@ -0,0 +1,68 @@
+package com.paytr.pages;
+
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Sayfa sınıfı başına bir kez, ilk örnek oluşturulurken hesaplanan bilgiler.
+ * Sayfa nesneleri her testte yeniden oluşturulduğundan yansıma (reflection) gerektiren işler
+ * ({@link PerformanceBudget} okuma, {@link FindBy} alanlarını arama) burada önbelleğe alınır.
+ */
+final class PageMetadata {
+
+    private static final ClassValue<PageMetadata> METADATA = new ClassValue<PageMetadata>() {
+        @Override
+        protected PageMetadata computeValue(Class<?> pageClass) {
+            return new PageMetadata(pageClass);
+        }
+    };
+
+    private final String name;
+    private final PerformanceBudget budget;
+    private final boolean annotatedFields;
+
+    private PageMetadata(Class<?> pageClass) {
+        this.name = pageClass.getSimpleName();
+        this.budget = pageClass.getAnnotation(PerformanceBudget.class);
+        this.annotatedFields = hasAnnotatedFields(pageClass);
+    }
+
+    static PageMetadata of(Class<?> pageClass) {
+        return METADATA.get(pageClass);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Sayfa sınıfının performans bütçesi; tanımlı değilse null.
+     */
+    PerformanceBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Sınıf hiyerarşisinde {@link FindBy}, {@link FindBys} veya {@link FindAll} ile işaretli bir alan varsa true;
+     * yalnızca bu durumda PageFactory ile proxy element oluşturmak gerekir.
+     */
+    boolean hasAnnotatedFields() {
+        return annotatedFields;
+    }
+
+    private static boolean hasAnnotatedFields(Class<?> pageClass) {
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && (field.isAnnotationPresent(FindBy.class)
+                        || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -3,6 +3,11 @@ package com.paytr.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * "Linkle Ödeme" sayfasındaki form vb. elementlerin yönetildiği sınıf.
  */
@@ -18,24 +23,51 @@ public class PayWithLinks extends BasePage {
     public static final By TAX_OPTION = By.xpath("//form[@id='contact-form']//div[.='Şahıs İşletmesi (Vergi Levham Var)']");
     public static final By AGREEMENT_CHECKBOX = By.id("telefon");
     public static final By SUBMIT_BUTTON = By.xpath("//*[@id='contact-form']/button");
-    public static final By ACCEPT_COOKIES = By.xpath("/html/body/div[3]/div[@class='section-container']//button[.='Tümünü Kabul Et']");
-    public static final By PRELIMINARY_APPLICATION = By.xpath("//*[@id=\"__next\"]/div/div[2]/div[2]/div/div/form/div[8]/div/button");
+    public static final By ACCEPT_COOKIES = RankedLocator.named("Accept Cookies")
+            .xpath("//div[@class='section-container']//button[normalize-space(.)='Tümünü Kabul Et']")
+            .xpath("//button[normalize-space(.)='Tümünü Kabul Et']")
+            .build();
+    public static final By PRELIMINARY_APPLICATION = RankedLocator.named("Preliminary Application")
+            .css("#__next > div > div:nth-of-type(2) > div:nth-of-type(2) > div > div > form > div:nth-of-type(8) > div > button")
+            .xpath("//form//button[contains(normalize-space(.), 'Ön Başvuru')]")
+            .build();
     public static final By COMPANY_TITLE_INPUT = By.id("company_title");
     public static final By TC_NO_INPUT = By.id("tc_no");
     public static final By TAX_OFFICE_INPUT = By.id("tax_office");
     public static final By MONTHLY_SALE_INPUT = By.id("monthly_sale");
-    public static final By COMPLETE_PRE_APPLICATION_BUTTON = By.xpath("//*[@id='__next']/div/div[2]/div[2]/div/div/form/div[6]/div/button");
-    public static final By THANK_YOU_MESSAGE = By.xpath("//*[@id='__next']/div/div/div/h3");
+    public static final By COMPLETE_PRE_APPLICATION_BUTTON = RankedLocator.named("Complete Pre-Application")
+            .css("#__next > div > div:nth-of-type(2) > div:nth-of-type(2) > div > div > form > div:nth-of-type(6) > div > button")
+            .xpath("//form//button[contains(normalize-space(.), 'Tamamla')]")
+            .build();
+    public static final By THANK_YOU_MESSAGE = RankedLocator.named("Thank You Message")
+            .css("#__next > div > div > div > h3")
+            .xpath("//h3[starts-with(normalize-space(.), 'Teşekkürler')]")
+            .build();
     public static final By REFERENCE_DETAILS = By.xpath("//*[@id='__next']/div/div/div/div/a");
 
+    private static final boolean FAST_FILL = "fast".equalsIgnoreCase(System.getProperty("form.fill"));
+    private static final Set<By> KEYSTROKE_FIELDS = Collections.singleton(PHONE_INPUT);
+
     public PayWithLinks(WebDriver driver) {
         super(driver);
     }
 
     /**
      * Form alanlarına veri doldurur (BasePage içerisindeki fillField metodunu kullanır).
+     * {@code -Dform.fill=fast} verilirse alanlar tek bir JavaScript çağrısında doldurulur;
+     * telefon alanı maskeli olduğu için her iki modda da tuş vuruşlarıyla yazılır.
      */
     public void fillForm(String firstName, String surname, String email, String website, String phone) {
+        if (FAST_FILL) {
+            Map<By, String> values = new LinkedHashMap<>();
+            values.put(FIRST_NAME_INPUT, firstName);
+            values.put(SURNAME_INPUT, surname);
+            values.put(EMAIL_INPUT, email);
+            values.put(WEBSITE_INPUT, website);
+            values.put(PHONE_INPUT, phone);
+            fillFields(values, KEYSTROKE_FIELDS);
+            return;
+        }
         fillField(FIRST_NAME_INPUT, firstName);
         fillField(SURNAME_INPUT, surname);
         fillField(EMAIL_INPUT, email);
@@ -0,0 +1,42 @@
+package com.paytr.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sayfa sınıfının performans bütçesi; {@link BasePage#assertPerformanceBudget()} bu sınırları aşan testi başarısız yapar.
+ * Süreler navigasyon başlangıcından itibaren milisaniye cinsindendir; negatif değerli sınırlar kontrol edilmez.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface PerformanceBudget {
+
+    /**
+     * İlk byte'ın gelmesi (Navigation Timing responseStart).
+     */
+    long ttfbMs() default -1;
+
+    long firstContentfulPaintMs() default -1;
+
+    long largestContentfulPaintMs() default -1;
+
+    long domContentLoadedMs() default -1;
+
+    long loadMs() default -1;
+
+    /**
+     * Cumulative Layout Shift (birimsiz).
+     */
+    double cumulativeLayoutShift() default -1;
+
+    int resourceCount() default -1;
+
+    /**
+     * Sayfa ve alt kaynaklarının ağ üzerinden aktarılan toplam boyutu (KB).
+     */
+    long transferKb() default -1;
+}
@@ -0,0 +1,254 @@
+package com.paytr.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sıralı yedek adaylardan (id → data attribute → CSS → XPath) oluşan locator.
+ * Adaylar tek bir JavaScript çağrısında sırayla denenir; ilk eşleşen adayın elementleri döner.
+ * Hangi adayın eşleştiği ve tarayıcıda ne kadar sürdüğü {@link LocatorRegistry}'ye kaydedilir;
+ * hiç eşleşmeyen ya da hep yedeğe düşen adaylar koşu sonunda raporlanır.
+ * XPath ifadeleri tarayıcıda bir kez derlenip sayfa boyunca yeniden kullanılır.
+ */
+public final class RankedLocator extends By {
+
+    /**
+     * Aday türleri, deneme sırasıyla.
+     */
+    public enum Kind {
+        ID,
+        DATA_ATTRIBUTE,
+        CSS,
+        XPATH
+    }
+
+    static final String XPATH_FUNCTION =
+            "function compiledXPath(expression) {" +
+                    "  var cache = window.__paytrXPath || (window.__paytrXPath = {});" +
+                    "  return cache[expression] || (cache[expression] = document.createExpression(expression, null));" +
+                    "}";
+
+    private static final String FIND_ALL_SCRIPT = XPATH_FUNCTION +
+            "var candidates = arguments[0], root = arguments[1] || document, start = performance.now();" +
+            "function findAll(c) {" +
+            "  if (c.using === 'id' && root === document) {" +
+            "    var el = document.getElementById(c.value);" +
+            "    return el ? [el] : [];" +
+            "  }" +
+            "  if (c.using === 'id') return Array.prototype.slice.call(root.querySelectorAll('#' + CSS.escape(c.value)));" +
+            "  if (c.using === 'xpath') {" +
+            "    var snapshot = compiledXPath(c.value).evaluate(root, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    var nodes = [];" +
+            "    for (var n = 0; n < snapshot.snapshotLength; n++) nodes.push(snapshot.snapshotItem(n));" +
+            "    return nodes;" +
+            "  }" +
+            "  return Array.prototype.slice.call(root.querySelectorAll(c.value));" +
+            "}" +
+            "for (var i = 0; i < candidates.length; i++) {" +
+            "  var found = findAll(candidates[i]);" +
+            "  if (found.length) return [i, found, performance.now() - start];" +
+            "}" +
+            "return [-1, [], performance.now() - start];";
+
+    private final String name;
+    private final List<Candidate> candidates;
+    private final List<Map<String, Object>> scriptCandidates;
+    private final Map<String, Object> scriptQuery;
+
+    private RankedLocator(String name, List<Candidate> candidates) {
+        this.name = name;
+        this.candidates = Collections.unmodifiableList(candidates);
+
+        List<Map<String, Object>> compiled = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            Map<String, Object> query = new HashMap<>();
+            query.put("using", candidate.using());
+            query.put("value", candidate.scriptValue());
+            compiled.add(Collections.unmodifiableMap(query));
+        }
+        this.scriptCandidates = Collections.unmodifiableList(compiled);
+
+        Map<String, Object> query = new HashMap<>();
+        query.put("using", "ranked");
+        query.put("candidates", scriptCandidates);
+        this.scriptQuery = Collections.unmodifiableMap(query);
+    }
+
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Candidate> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * BasePage'in toplu scriptlerinde kullanılan {using: 'ranked', candidates: [...]} sorgusu.
+     */
+    Map<String, Object> toScriptQuery() {
+        return scriptQuery;
+    }
+
+    /**
+     * Toplu bir script çağrısında çözülen eşleşmeyi kaydeder; eşleşme yoksa index -1'dir.
+     */
+    void recordMatch(int candidateIndex, double browserMillis) {
+        LocatorRegistry.getInstance().record(this, candidateIndex, browserMillis);
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        Object root = context instanceof WebElement ? context : null;
+        List<?> result = (List<?>) executorOf(context).executeScript(FIND_ALL_SCRIPT, scriptCandidates, root);
+        int matched = ((Number) result.get(0)).intValue();
+        recordMatch(matched, ((Number) result.get(2)).doubleValue());
+
+        List<WebElement> elements = new ArrayList<>();
+        for (Object element : (List<?>) result.get(1)) {
+            elements.add((WebElement) element);
+        }
+        return elements;
+    }
+
+    @Override
+    public WebElement findElement(SearchContext context) {
+        List<WebElement> elements = findElements(context);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + this);
+        }
+        return elements.get(0);
+    }
+
+    @Override
+    public String toString() {
+        return "By.ranked: " + name;
+    }
+
+    private static JavascriptExecutor executorOf(SearchContext context) {
+        if (context instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) context;
+        }
+        if (context instanceof WrapsDriver && ((WrapsDriver) context).getWrappedDriver() instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+        }
+        throw new IllegalArgumentException("RankedLocator needs a JavascriptExecutor, got: " + context);
+    }
+
+    /**
+     * Tek bir yedek aday.
+     */
+    public static final class Candidate {
+        private final Kind kind;
+        private final String value;
+
+        private Candidate(Kind kind, String value) {
+            this.kind = kind;
+            this.value = value;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        private String using() {
+            switch (kind) {
+                case ID:
+                    return "id";
+                case XPATH:
+                    return "xpath";
+                default:
+                    return "css selector";
+            }
+        }
+
+        private String scriptValue() {
+            return kind == Kind.DATA_ATTRIBUTE ? "[" + value + "]" : value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Candidate)) {
+                return false;
+            }
+            Candidate other = (Candidate) o;
+            return kind == other.kind && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return kind.name().toLowerCase(Locale.ROOT) + " " + value;
+        }
+    }
+
+    /**
+     * Adayları toplar; build() adayları türüne göre (id → data attribute → CSS → XPath) sıralar,
+     * aynı türdekiler eklenme sırasını korur.
+     */
+    public static final class Builder {
+        private final String name;
+        private final List<Candidate> candidates = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder id(String id) {
+            candidates.add(new Candidate(Kind.ID, id));
+            return this;
+        }
+
+        /**
+         * data attribute adayı; değer {@code data-testid="faq"} biçiminde verilir.
+         */
+        public Builder dataAttribute(String attribute) {
+            candidates.add(new Candidate(Kind.DATA_ATTRIBUTE, attribute));
+            return this;
+        }
+
+        public Builder css(String selector) {
+            candidates.add(new Candidate(Kind.CSS, selector));
+            return this;
+        }
+
+        public Builder xpath(String expression) {
+            candidates.add(new Candidate(Kind.XPATH, expression));
+            return this;
+        }
+
+        public RankedLocator build() {
+            if (candidates.isEmpty()) {
+                throw new IllegalStateException("Ranked locator '" + name + "' has no candidates.");
+            }
+            List<Candidate> ranked = new ArrayList<>(candidates);
+            ranked.sort(Comparator.comparing(Candidate::getKind));
+            RankedLocator locator = new RankedLocator(name, ranked);
+            LocatorRegistry.getInstance().register(locator);
+            return locator;
+        }
+    }
+}
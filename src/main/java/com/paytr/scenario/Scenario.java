@@ -0,0 +1,12 @@
+package com.paytr.scenario;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * {@link ScenarioRunner} tarafından kiralanmış bir driver ile tek bir girdi için çalıştırılan senaryo.
+ */
+@FunctionalInterface
+public interface Scenario<T> {
+
+    void run(WebDriver driver, T input) throws Exception;
+}
@@ -0,0 +1,69 @@
+package com.paytr.scenario;
+
+import com.paytr.wait.LatencyHistogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bir {@link ScenarioRunner} koşusunun sonucu: senaryo sayıları, dakika başına tamamlanan senaryo (throughput)
+ * ve senaryoların driver kiralamak için kuyrukta bekleme süreleri.
+ */
+public final class ScenarioReport {
+
+    private final String name;
+    private final long succeeded;
+    private final long failed;
+    private final long wallNanos;
+    private final LatencyHistogram queueLatency;
+    private final LatencyHistogram scenarioDuration;
+
+    ScenarioReport(String name, long succeeded, long failed, long wallNanos, LatencyHistogram queueLatency,
+                   LatencyHistogram scenarioDuration) {
+        this.name = name;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.wallNanos = wallNanos;
+        this.queueLatency = queueLatency;
+        this.scenarioDuration = scenarioDuration;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getWallMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(wallNanos);
+    }
+
+    /**
+     * Dakika başına başarıyla tamamlanan senaryo sayısı.
+     */
+    public double getThroughputPerMinute() {
+        return wallNanos == 0 ? 0 : succeeded * TimeUnit.MINUTES.toNanos(1) / (double) wallNanos;
+    }
+
+    public LatencyHistogram getQueueLatency() {
+        return queueLatency;
+    }
+
+    public LatencyHistogram getScenarioDuration() {
+        return scenarioDuration;
+    }
+
+    @Override
+    public String toString() {
+        long total = succeeded + failed;
+        return String.format(Locale.ROOT,
+                "%s: %d scenario(s), %d failed, %.1f per minute over %d ms; queue latency p50<=%d ms p95<=%d ms "
+                        + "avg %d ms [%s]; scenario duration p50<=%d ms p95<=%d ms",
+                name, total, failed, getThroughputPerMinute(), getWallMillis(),
+                queueLatency.percentileUpperBound(50), queueLatency.percentileUpperBound(95),
+                total == 0 ? 0 : queueLatency.getTotalMillis() / total, queueLatency.describeBuckets(),
+                scenarioDuration.percentileUpperBound(50), scenarioDuration.percentileUpperBound(95));
+    }
+}
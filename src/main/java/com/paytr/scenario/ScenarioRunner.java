@@ -0,0 +1,114 @@
+package com.paytr.scenario;
+
+import com.paytr.driver.DriverPool;
+import com.paytr.wait.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Çok sayıda senaryoyu sınırlı {@link DriverPool} üzerinden çalıştırır.
+ * Her senaryo kendi sanal thread'inde çalışır; driver beklerken bir platform thread'i meşgul etmez.
+ * Tarayıcı erişimi havuzun semaforu ile sınırlanır, senaryolar bir driver boşalana kadar kuyrukta bekler.
+ * Girdiler tembel olarak okunur; aynı anda en fazla {@code -Dscenario.maxQueued} (varsayılan: 1000)
+ * senaryo bekleyebilir, böylece binlerce satırlık veri belleğe topluca alınmaz.
+ */
+public final class ScenarioRunner {
+
+    private static final Logger logger = LogManager.getLogger(ScenarioRunner.class);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final DriverPool pool;
+    private final int maxQueued;
+
+    public ScenarioRunner(DriverPool pool) {
+        this(pool, Integer.getInteger("scenario.maxQueued", 1000));
+    }
+
+    public ScenarioRunner(DriverPool pool, int maxQueued) {
+        if (maxQueued < 1) {
+            throw new IllegalArgumentException("scenario.maxQueued must be at least 1, was: " + maxQueued);
+        }
+        this.pool = pool;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Her girdi için senaryoyu çalıştırır ve tümü bitene kadar bekler.
+     * Bir senaryonun hatası diğerlerini durdurmaz; hatalar loglanır ve raporda sayılır.
+     */
+    public <T> ScenarioReport run(String name, Stream<T> inputs, Scenario<T> scenario) {
+        LatencyHistogram queueLatency = new LatencyHistogram();
+        LatencyHistogram scenarioDuration = new LatencyHistogram();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        Semaphore queued = new Semaphore(maxQueued);
+        long start = System.nanoTime();
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+        logger.info("Starting scenario run '{}' on a pool of {} browser(s).", name, pool.getSize());
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("scenario-", 1).factory());
+             Stream<T> source = inputs) {
+            Iterator<T> iterator = source.iterator();
+            long index = 0;
+            while (iterator.hasNext()) {
+                T input = iterator.next();
+                long id = ++index;
+                queued.acquireUninterruptibly();
+                long submitted = System.nanoTime();
+                executor.execute(() -> {
+                    try {
+                        runOne(name, id, input, scenario, submitted, queueLatency, scenarioDuration, succeeded, failed);
+                    } finally {
+                        queued.release();
+                    }
+                });
+
+                if (submitted >= nextProgress) {
+                    logger.info("Scenario run '{}': {} submitted, {} succeeded, {} failed.", name, id,
+                            succeeded.get(), failed.get());
+                    nextProgress = submitted + PROGRESS_INTERVAL_NANOS;
+                }
+            }
+        }
+
+        ScenarioReport report = new ScenarioReport(name, succeeded.get(), failed.get(), System.nanoTime() - start,
+                queueLatency, scenarioDuration);
+        logger.info("Scenario run finished. {}", report);
+        return report;
+    }
+
+    private <T> void runOne(String name, long id, T input, Scenario<T> scenario, long submitted,
+                            LatencyHistogram queueLatency, LatencyHistogram scenarioDuration,
+                            AtomicLong succeeded, AtomicLong failed) {
+        ThreadContext.put("testClass", name);
+        WebDriver driver = null;
+        long leased = 0;
+        try {
+            driver = pool.lease();
+            leased = System.nanoTime();
+            queueLatency.record(TimeUnit.NANOSECONDS.toMillis(leased - submitted));
+            scenario.run(driver, input);
+            succeeded.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            logger.error("Scenario {} #{} failed for input {}", name, id, input, e);
+        } finally {
+            if (driver != null) {
+                scenarioDuration.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - leased));
+                pool.release(driver);
+            }
+            ThreadContext.clearMap();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.paytr.wait;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bir bekleme anahtarı (ör. locator) için koşulun sağlanma sürelerini logaritmik kovalarda tutar.
+ * Thread-safe'dir; kayıt işlemi kilitsizdir.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Kova üst sınırları (ms). Son kova bunlardan büyük tüm değerleri kapsar.
+     */
+    private static final long[] BUCKET_UPPER_BOUNDS_MS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMillis = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    public void record(long millis) {
+        buckets.incrementAndGet(bucketOf(millis));
+        count.incrementAndGet();
+        totalMillis.addAndGet(millis);
+    }
+
+    public void recordTimeout(long millis) {
+        timeouts.incrementAndGet();
+        totalMillis.addAndGet(millis);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public long getTotalMillis() {
+        return totalMillis.get();
+    }
+
+    /**
+     * Verilen yüzdelik dilimin düştüğü kovanın üst sınırını döndürür; hiç kayıt yoksa -1 döner.
+     */
+    public long percentileUpperBound(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return -1;
+        }
+        long threshold = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= threshold) {
+                return i < BUCKET_UPPER_BOUNDS_MS.length ? BUCKET_UPPER_BOUNDS_MS[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Kovaları "<=10ms:3 <=25ms:1 ..." biçiminde döndürür; boş kovalar atlanır.
+     */
+    public String describeBuckets() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < buckets.length(); i++) {
+            long value = buckets.get(i);
+            if (value == 0) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            if (i < BUCKET_UPPER_BOUNDS_MS.length) {
+                builder.append("<=").append(BUCKET_UPPER_BOUNDS_MS[i]).append("ms:");
+            } else {
+                builder.append(">").append(BUCKET_UPPER_BOUNDS_MS[i - 1]).append("ms:");
+            }
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+            if (millis <= BUCKET_UPPER_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_MS.length;
+    }
+}
@@ -0,0 +1,180 @@
+package com.paytr.wait;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URL beklemelerini tarayıcının navigasyon olaylarıyla tamamlayan izleyici.
+ * Her oturum için DevTools üzerinden {@code Page.frameNavigated} ve {@code Page.navigatedWithinDocument}
+ * olaylarına abone olunur; bekleyen thread yoklama yapmak yerine ana çerçevede bir navigasyon
+ * işlendiğinde uyandırılır ve URL'i bir kez okuyarak doğrular. Kaçırılan olaylara karşı
+ * seyrek bir güvenlik kontrolü yapılır.
+ *
+ * DevTools desteklemeyen oturumlarda veya {@code -Dwait.navigation.events=false} ile
+ * {@link WaitEngine} üzerinden yoklamaya dönülür.
+ */
+public final class NavigationTracker {
+
+    private static final Logger logger = LogManager.getLogger(NavigationTracker.class);
+    private static final NavigationTracker INSTANCE = new NavigationTracker();
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("wait.navigation.events", "true"));
+    private static final long SAFETY_CHECK_MS = 1000;
+
+    private final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+
+    private NavigationTracker() {
+    }
+
+    public static NavigationTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Oturumun navigasyon olaylarına abone olur. Bağlantı kurulamazsa oturum yoklama ile beklemeye devam eder.
+     */
+    public void attach(WebDriver driver) {
+        if (!ENABLED) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.warn("{} does not support DevTools, URL waits fall back to polling.",
+                    driver.getClass().getSimpleName());
+            return;
+        }
+        Session session = new Session();
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(new Event<Map<String, Object>>("Page.frameNavigated",
+                    input -> input.read(Json.MAP_TYPE)), session::onFrameNavigated);
+            devTools.addListener(new Event<Map<String, Object>>("Page.navigatedWithinDocument",
+                    input -> input.read(Json.MAP_TYPE)), session::onNavigatedWithinDocument);
+            devTools.send(new Command<Void>("Page.enable", Collections.<String, Object>emptyMap()));
+            sessions.put(driver, session);
+        } catch (RuntimeException e) {
+            logger.warn("Could not subscribe to navigation events, URL waits fall back to polling.", e);
+        }
+    }
+
+    /**
+     * Kapatılan oturumu bırakır. driver.quit() sonrasında çağrılır.
+     */
+    public void detach(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    /**
+     * Mevcut URL kurala uyana kadar bekler.
+     *
+     * @return kurala uyan URL; süre dolarsa null
+     */
+    public String awaitUrl(WebDriver driver, UrlMatch match, Duration timeout) {
+        String key = "url:" + match;
+        Session session = sessions.get(driver);
+        if (session == null) {
+            try {
+                return WaitEngine.getInstance().until(driver, key,
+                        drv -> {
+                            String currentUrl = drv.getCurrentUrl();
+                            return match.matches(currentUrl) ? currentUrl : null;
+                        }, timeout);
+            } catch (TimeoutException e) {
+                return null;
+            }
+        }
+
+        long start = System.nanoTime();
+        String matchedUrl = null;
+        try {
+            matchedUrl = session.await(driver, match, start + timeout.toNanos());
+            return matchedUrl;
+        } finally {
+            WaitEngine.getInstance().record(key, start, matchedUrl != null);
+        }
+    }
+
+    /**
+     * Tek bir oturumun ana çerçeve navigasyonlarını sayan ve bekleyenleri uyandıran durum.
+     */
+    private static final class Session {
+        private String mainFrameId;
+        private String lastUrl;
+        private long navigations;
+
+        @SuppressWarnings("unchecked")
+        private synchronized void onFrameNavigated(Map<String, Object> params) {
+            Object frameObject = params.get("frame");
+            if (!(frameObject instanceof Map)) {
+                return;
+            }
+            Map<String, Object> frame = (Map<String, Object>) frameObject;
+            if (frame.get("parentId") != null) {
+                return;
+            }
+            mainFrameId = (String) frame.get("id");
+            Object fragment = frame.get("urlFragment");
+            onNavigated(frame.get("url") + (fragment != null ? String.valueOf(fragment) : ""));
+        }
+
+        private synchronized void onNavigatedWithinDocument(Map<String, Object> params) {
+            if (mainFrameId != null && !mainFrameId.equals(params.get("frameId"))) {
+                return;
+            }
+            onNavigated(String.valueOf(params.get("url")));
+        }
+
+        private void onNavigated(String url) {
+            lastUrl = url;
+            navigations++;
+            logger.debug("Navigation committed: {}", url);
+            notifyAll();
+        }
+
+        /**
+         * URL'i okur; uymuyorsa bir sonraki navigasyon olayına (ya da güvenlik kontrolüne) kadar uyur.
+         * Olaylar yalnızca uyandırma sinyalidir, karar her zaman sürücünün bildirdiği URL ile verilir.
+         */
+        private String await(WebDriver driver, UrlMatch match, long deadlineNanos) {
+            while (true) {
+                long seen;
+                synchronized (this) {
+                    seen = navigations;
+                }
+                String currentUrl = driver.getCurrentUrl();
+                if (match.matches(currentUrl)) {
+                    return currentUrl;
+                }
+                synchronized (this) {
+                    long remaining = deadlineNanos - System.nanoTime();
+                    if (remaining <= 0) {
+                        logger.debug("No matching navigation for {}, last committed URL: {}", match, lastUrl);
+                        return null;
+                    }
+                    if (navigations == seen) {
+                        try {
+                            TimeUnit.NANOSECONDS.timedWait(this,
+                                    Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(SAFETY_CHECK_MS)));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new RuntimeException("Interrupted while waiting for navigation.", e);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.paytr.wait;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Beklenen URL ile tarayıcının mevcut URL'ini karşılaştırma kuralı.
+ *
+ * <ul>
+ *     <li>{@link Mode#EXACT}: karakter karakter eşitlik</li>
+ *     <li>{@link Mode#PREFIX}: mevcut URL beklenen değerle başlar</li>
+ *     <li>{@link Mode#REGEX}: mevcut URL düzenli ifadeyle tamamen eşleşir</li>
+ *     <li>{@link Mode#NORMALIZED}: şema ve host büyük/küçük harf duyarsız; varsayılan port, sondaki "/",
+ *     sorgu (query) ve fragment yok sayılır</li>
+ * </ul>
+ */
+public final class UrlMatch {
+
+    public enum Mode {
+        EXACT, PREFIX, REGEX, NORMALIZED
+    }
+
+    private final Mode mode;
+    private final String expected;
+    private final Pattern pattern;
+    private final String normalizedExpected;
+
+    private UrlMatch(Mode mode, String expected) {
+        if (expected == null) {
+            throw new IllegalArgumentException("Expected URL must not be null.");
+        }
+        this.mode = mode;
+        this.expected = expected;
+        this.pattern = mode == Mode.REGEX ? Pattern.compile(expected) : null;
+        this.normalizedExpected = mode == Mode.NORMALIZED ? normalize(expected) : null;
+    }
+
+    public static UrlMatch exact(String url) {
+        return new UrlMatch(Mode.EXACT, url);
+    }
+
+    public static UrlMatch prefix(String urlPrefix) {
+        return new UrlMatch(Mode.PREFIX, urlPrefix);
+    }
+
+    public static UrlMatch regex(String regex) {
+        return new UrlMatch(Mode.REGEX, regex);
+    }
+
+    public static UrlMatch normalized(String url) {
+        return new UrlMatch(Mode.NORMALIZED, url);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public String getExpected() {
+        return expected;
+    }
+
+    public boolean matches(String actualUrl) {
+        if (actualUrl == null) {
+            return false;
+        }
+        switch (mode) {
+            case EXACT:
+                return actualUrl.equals(expected);
+            case PREFIX:
+                return actualUrl.startsWith(expected);
+            case REGEX:
+                return pattern.matcher(actualUrl).matches();
+            default:
+                return normalize(actualUrl).equals(normalizedExpected);
+        }
+    }
+
+    /**
+     * URL'i şema, host, varsayılan olmayan port ve sondaki "/" kırpılmış yol olarak yazar.
+     * Çözümlenemeyen değerler olduğu gibi döner.
+     */
+    static String normalize(String url) {
+        URI uri;
+        try {
+            uri = new URI(url.trim());
+        } catch (URISyntaxException e) {
+            return url;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+            return url;
+        }
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(scheme).append("://");
+        if (uri.getHost() != null) {
+            normalized.append(uri.getHost().toLowerCase(Locale.ROOT));
+            int port = uri.getPort();
+            if (port >= 0 && !(port == 80 && "http".equals(scheme)) && !(port == 443 && "https".equals(scheme))) {
+                normalized.append(':').append(port);
+            }
+        } else {
+            normalized.append(uri.getRawAuthority().toLowerCase(Locale.ROOT));
+        }
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return normalized.append(path, 0, end).toString();
+    }
+
+    @Override
+    public String toString() {
+        return mode.name().toLowerCase(Locale.ROOT) + ":" + expected;
+    }
+}
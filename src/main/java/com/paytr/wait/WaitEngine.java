@@ -0,0 +1,163 @@
+package com.paytr.wait;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Tüm sayfa nesnelerinin paylaştığı, uyarlanabilir aralıklarla yoklama yapan bekleme motoru.
+ * İlk yoklamalar kısa aralıklarla yapılır, koşul sağlanmadıkça aralık büyütülür. Başlangıç aralığı,
+ * aynı anahtar için daha önce ölçülen medyan süreye göre ayarlanır ve her anahtar için gecikme
+ * histogramı tutulur.
+ *
+ * <ul>
+ *     <li>{@code -Dwait.poll.min}: en kısa yoklama aralığı, ms (varsayılan: 25)</li>
+ *     <li>{@code -Dwait.poll.max}: en uzun yoklama aralığı, ms (varsayılan: 500)</li>
+ * </ul>
+ */
+public final class WaitEngine {
+
+    private static final Logger logger = LogManager.getLogger(WaitEngine.class);
+    private static final WaitEngine INSTANCE = new WaitEngine();
+    private static final long MIN_POLL_MS = Long.getLong("wait.poll.min", 25);
+    private static final long MAX_POLL_MS = Long.getLong("wait.poll.max", 500);
+    private static final double BACKOFF_FACTOR = 1.5;
+
+    private static final ThreadLocal<long[]> THREAD_WAIT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private WaitEngine() {
+    }
+
+    public static WaitEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Koşul null ya da false dışında bir değer döndürene kadar bekler ve bu değeri döndürür.
+     * Bekleme sırasında oluşan NotFoundException ve StaleElementReferenceException yok sayılır.
+     *
+     * @param key       istatistiklerin tutulacağı anahtar (genellikle locator)
+     * @param condition her yoklamada çalıştırılacak koşul
+     * @param timeout   en uzun bekleme süresi
+     * @throws TimeoutException koşul süre içinde sağlanmazsa
+     */
+    public <T> T until(WebDriver driver, String key, Function<? super WebDriver, T> condition, Duration timeout) {
+        LatencyHistogram histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = initialPollMillis(histogram);
+        RuntimeException lastException = null;
+
+        try {
+            while (true) {
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        histogram.record(elapsedMillis(start));
+                        return value;
+                    }
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastException = e;
+                }
+
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    long elapsed = elapsedMillis(start);
+                    histogram.recordTimeout(elapsed);
+                    throw new TimeoutException(String.format(
+                            "Expected condition failed: waiting for %s (tried for %d ms with adaptive polling)",
+                            condition, elapsed), lastException);
+                }
+
+                sleep(Math.min(pollMillis, remainingMillis));
+                pollMillis = Math.min(MAX_POLL_MS, (long) (pollMillis * BACKOFF_FACTOR));
+            }
+        } finally {
+            THREAD_WAIT_NANOS.get()[0] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Yoklama yapılmadan (ör. tarayıcı olaylarıyla) tamamlanan bir beklemeyi anahtarın histogramına
+     * ve mevcut thread'in bekleme süresine ekler.
+     *
+     * @param startNanos beklemenin başladığı {@link System#nanoTime()} değeri
+     * @param satisfied  koşul sağlandıysa true, süre dolduysa false
+     */
+    public void record(String key, long startNanos, boolean satisfied) {
+        LatencyHistogram histogram = histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+        if (satisfied) {
+            histogram.record(elapsedMillis(startNanos));
+        } else {
+            histogram.recordTimeout(elapsedMillis(startNanos));
+        }
+        THREAD_WAIT_NANOS.get()[0] += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Mevcut thread'in bu motor üzerinden beklediği toplam süre (ns). Aksiyon ölçümlerinde fark alınarak kullanılır.
+     */
+    public static long currentThreadWaitNanos() {
+        return THREAD_WAIT_NANOS.get()[0];
+    }
+
+    /**
+     * Anahtarın histogramını döndürür; henüz hiç bekleme yapılmadıysa null döner.
+     */
+    public LatencyHistogram getHistogram(String key) {
+        return histograms.get(key);
+    }
+
+    /**
+     * Anahtar başına bekleme istatistiklerini, toplam bekleme süresine göre azalan sırada loglar.
+     */
+    public void logReport() {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().getTotalMillis(), a.getValue().getTotalMillis()));
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            LatencyHistogram histogram = entry.getValue();
+            logger.info("Wait latency for {}: {} ok, {} timeout(s), {} ms total, p50<={} ms, p95<={} ms [{}]",
+                    entry.getKey(), histogram.getCount(), histogram.getTimeouts(), histogram.getTotalMillis(),
+                    histogram.percentileUpperBound(50), histogram.percentileUpperBound(95),
+                    histogram.describeBuckets());
+        }
+    }
+
+    /**
+     * Daha önceki ölçümlere göre ilk yoklama aralığını seçer: medyan sürenin dörtte biri,
+     * [wait.poll.min, wait.poll.max] aralığına sıkıştırılmış olarak.
+     */
+    private long initialPollMillis(LatencyHistogram histogram) {
+        long median = histogram.percentileUpperBound(50);
+        if (median < 0) {
+            return MIN_POLL_MS;
+        }
+        return Math.max(MIN_POLL_MS, Math.min(MAX_POLL_MS, median / 4));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for condition.", e);
+        }
+    }
+}
@@ -1,30 +1,37 @@
 package com.paytr.tests;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.paytr.driver.DriverPool;
+import com.paytr.tests.shard.ShardExtension;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 
 /**
  * Tüm test sınıflarının miras alacağı temel test sınıfı.
- * WebDriver kurulum, kapatma gibi tekrar eden işlemleri burada yapıyoruz.
+ * Her test sınıfı, paylaşılan havuzdan kendi WebDriver'ını kiralar ve sınıf bitince iade eder;
+ * böylece test sınıfları paralel çalışabilir. Testler {@link DependsOn} ile ön koşul belirtebilir.
+ * Koşu {@link ShardExtension} ile birden fazla JVM'e veya makineye bölünebilir.
+ * Başarısız testlerde tarayıcı durumu {@link FailureArtifactsExtension} ile kaydedilir.
  */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith({ShardExtension.class, SuiteLifecycleExtension.class, TestLogContextExtension.class, DependencyExtension.class,
+        FailureArtifactsExtension.class})
 public abstract class BaseTest {
 
-    protected static WebDriver driver;
+    protected WebDriver driver;
 
     @BeforeAll
-    public static void setUp() {
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
+    public void setUp() {
+        driver = DriverPool.getInstance().lease();
     }
 
     @AfterAll
-    public static void tearDown() {
+    public void tearDown() {
         if (driver != null) {
-            driver.quit();
+            DriverPool.getInstance().release(driver);
+            driver = null;
         }
     }
 }
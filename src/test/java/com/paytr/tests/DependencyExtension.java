@@ -0,0 +1,174 @@
+package com.paytr.tests;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link DependsOn} ile işaretlenmiş testleri ön koşullarının sonucuna göre çalıştırır ya da atlar.
+ *
+ * <ul>
+ *     <li>Ön koşul başarısız olduysa veya atlandıysa bağımlı test hiç başlamadan atlanır; böylece zincirin
+ *     geri kalanı element zaman aşımlarını beklemez.</li>
+ *     <li>Başka testlerin ön koşulu olan her başarılı test adımının sonunda oturum durumu (çerezler, URL)
+ *     {@code -Dcheckpoint.dir} altına (varsayılan: target/checkpoints) yazılır.</li>
+ *     <li>{@code -Dcheckpoint.resume=true} verilirse, bu koşuda çalışmamış bir ön koşulun kontrol noktası
+ *     geri yüklenir ve zincir baştan oynatılmadan o adımdan devam eder.</li>
+ * </ul>
+ */
+public class DependencyExtension implements ExecutionCondition, BeforeEachCallback, TestWatcher {
+
+    private static final Logger logger = LogManager.getLogger(DependencyExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DependencyExtension.class);
+    private static final boolean RESUME = Boolean.getBoolean("checkpoint.resume");
+    private static final Path CHECKPOINT_DIR = Paths.get(System.getProperty("checkpoint.dir", "target/checkpoints"));
+
+    private enum Outcome {
+        PASSED,
+        SKIPPED,
+        FAILED
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        Optional<Method> method = context.getTestMethod();
+        if (!method.isPresent()) {
+            return ConditionEvaluationResult.enabled("No test method.");
+        }
+        DependsOn dependsOn = method.get().getAnnotation(DependsOn.class);
+        if (dependsOn == null) {
+            return ConditionEvaluationResult.enabled("No prerequisites.");
+        }
+
+        Map<String, Outcome> outcomes = outcomes(context);
+        for (String prerequisite : dependsOn.value()) {
+            Outcome outcome = outcomes.get(prerequisite);
+            if (outcome == Outcome.PASSED) {
+                continue;
+            }
+            if (outcome != null) {
+                return ConditionEvaluationResult.disabled(
+                        "Prerequisite " + prerequisite + " " + outcome.name().toLowerCase(Locale.ROOT) + ", skipping dependent test.");
+            }
+            Path checkpoint = checkpointFile(context.getRequiredTestClass(), prerequisite);
+            if (RESUME && Files.exists(checkpoint)) {
+                resumePoints(context).put(method.get().getName(), checkpoint);
+                continue;
+            }
+            return ConditionEvaluationResult.disabled("Prerequisite " + prerequisite + " has not run"
+                    + (RESUME ? " and has no checkpoint at " + checkpoint : "; run it first or use -Dcheckpoint.resume=true"));
+        }
+        return ConditionEvaluationResult.enabled("All prerequisites passed.");
+    }
+
+    /**
+     * Ön koşulu bu koşuda çalışmamış test için kaydedilmiş kontrol noktasını geri yükler.
+     */
+    @Override
+    public void beforeEach(ExtensionContext context) throws IOException {
+        Path checkpoint = resumePoints(context).remove(context.getRequiredTestMethod().getName());
+        BaseTest test = testOf(context);
+        if (checkpoint == null || test == null) {
+            return;
+        }
+        SessionCheckpoint session = SessionCheckpoint.read(checkpoint);
+        session.restore(test.driver);
+        logger.info("Resumed {} from checkpoint {} at {}", context.getRequiredTestMethod().getName(), checkpoint,
+                session.getUrl());
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        record(context, Outcome.PASSED);
+        String methodName = context.getRequiredTestMethod().getName();
+        BaseTest test = testOf(context);
+        if (test == null || test.driver == null || !prerequisitesOf(context.getRequiredTestClass()).contains(methodName)) {
+            return;
+        }
+        Path file = checkpointFile(context.getRequiredTestClass(), methodName);
+        try {
+            SessionCheckpoint.capture(test.driver).write(file);
+            logger.info("Saved session checkpoint after {} to {}", methodName, file);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not save session checkpoint after {}", methodName, e);
+        }
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        record(context, Outcome.FAILED);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        record(context, Outcome.SKIPPED);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        record(context, Outcome.SKIPPED);
+    }
+
+    /**
+     * Parametreli testlerde en kötü sonuç tutulur: bir satır bile başarısızsa metot başarısız sayılır.
+     */
+    private void record(ExtensionContext context, Outcome outcome) {
+        outcomes(context).merge(context.getRequiredTestMethod().getName(), outcome,
+                (previous, current) -> previous.compareTo(current) >= 0 ? previous : current);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Outcome> outcomes(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+                "outcomes:" + context.getRequiredTestClass().getName(),
+                key -> new ConcurrentHashMap<String, Outcome>(), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Path> resumePoints(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+                "resume:" + context.getRequiredTestClass().getName(),
+                key -> new ConcurrentHashMap<String, Path>(), Map.class);
+    }
+
+    /**
+     * Sınıfta başka bir testin ön koşulu olarak geçen metot adları; yalnızca bunlar için kontrol noktası yazılır.
+     */
+    private static Set<String> prerequisitesOf(Class<?> testClass) {
+        Set<String> prerequisites = new HashSet<>();
+        for (Method method : testClass.getMethods()) {
+            DependsOn dependsOn = method.getAnnotation(DependsOn.class);
+            if (dependsOn != null) {
+                for (String prerequisite : dependsOn.value()) {
+                    prerequisites.add(prerequisite);
+                }
+            }
+        }
+        return prerequisites;
+    }
+
+    private static Path checkpointFile(Class<?> testClass, String methodName) {
+        return CHECKPOINT_DIR.resolve(testClass.getSimpleName()).resolve(methodName + ".json");
+    }
+
+    private static BaseTest testOf(ExtensionContext context) {
+        Object instance = context.getTestInstance().orElse(null);
+        return instance instanceof BaseTest ? (BaseTest) instance : null;
+    }
+}
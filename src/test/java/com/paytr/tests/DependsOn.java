@@ -0,0 +1,17 @@
+package com.paytr.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Testin aynı sınıftaki ön koşul testlerini (metot adlarıyla) belirtir.
+ * Ön koşullardan biri başarısız olur ya da atlanırsa test beklemeden atlanır; bkz. {@link DependencyExtension}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DependsOn {
+
+    String[] value();
+}
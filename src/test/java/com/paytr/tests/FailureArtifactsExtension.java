@@ -0,0 +1,22 @@
+package com.paytr.tests;
+
+import com.paytr.artifacts.FailureArtifacts;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+/**
+ * Başarısız testin sonunda tarayıcı durumunu {@link FailureArtifacts} ile kaydettirir.
+ * Sayfa aksiyonlarında zaten kaydedilmiş hatalar (ör. tıklama hatası) tekrar kaydedilmez;
+ * böylece yalnızca doğrulama (assert) hataları burada yakalanır.
+ */
+public class FailureArtifactsExtension implements TestWatcher {
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        Object instance = context.getTestInstance().orElse(null);
+        if (instance instanceof BaseTest) {
+            FailureArtifacts.getInstance().capture(((BaseTest) instance).driver,
+                    context.getRequiredTestClass().getSimpleName() + " " + context.getDisplayName(), cause);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.paytr.tests;
 
+import com.paytr.fixture.Site;
 import com.paytr.pages.HomePage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
 import org.openqa.selenium.By;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -18,18 +21,32 @@ public class HomePageTest extends BaseTest {
     private static final Logger logger = LogManager.getLogger(HomePageTest.class);
     private HomePage homePage;
 
+    @BeforeAll
+    public void setupClass() {
+        driver.get(Site.url("/"));
+    }
+
     @BeforeEach
     public void setupTest() {
         // Her test öncesi HomePage objesi oluşturuluyor
         homePage = new HomePage(driver);
     }
 
+    /**
+     * Sayfa yüklendikten hemen sonra, hiçbir etkileşimden önce ölçülür. Bütçe aşımı slider testlerini etkilemez.
+     */
+    @Test
+    @DisplayName("Test - 0: Sayfa performans bütçesi")
+    public void testPerformanceBudget() {
+        logger.info("Checking the home page against its performance budget.");
+        homePage.assertPerformanceBudget();
+    }
+
     @Test
     @DisplayName("Test - 1: Tüm slider kartlarının görünürlüğü")
     public void testAllCardsVisibility() {
-        driver.get("https://www.paytr.com/");
         logger.info("Testing if the current URL matches the expected URL.");
-        homePage.verifyCurrentUrl("https://www.paytr.com/");
+        homePage.verifyCurrentUrl(Site.url("/"));
 
         logger.info("Testing the visibility of all cards in the slider.");
         int totalCards = homePage.getTotalCardCount();
@@ -51,16 +68,11 @@ public class HomePageTest extends BaseTest {
     public void testAdditionalElementVisibility() {
         logger.info("Testing the visibility of additional elements.");
 
-        assertTrue(homePage.isProductManagementVisible(),
-                "Product Management element is not visible.");
-        assertTrue(homePage.isForDevelopersVisible(),
-                "For Developers element is not visible.");
-        assertTrue(homePage.isWhyChooseUsVisible(),
-                "Why Choose Us element is not visible.");
-        assertTrue(homePage.isBusinessPartnersVisible(),
-                "Business Partners element is not visible.");
-        assertTrue(homePage.isFAQSectionVisible(),
-                "FAQ Section element is not visible.");
+        // Beş bölüm tek bir tarayıcı çağrısında kontrol ediliyor
+        Map<String, Boolean> visibility = homePage.getAdditionalElementVisibility();
+        for (Map.Entry<String, Boolean> entry : visibility.entrySet()) {
+            assertTrue(entry.getValue(), entry.getKey() + " element is not visible.");
+        }
     }
 
     @Test
@@ -68,11 +80,11 @@ public class HomePageTest extends BaseTest {
     public void testPaymentsMenuAndPayWithLinksButton() {
         logger.info("Starting the test for the Payments menu and Pay with Links button.");
 
-        driver.get("https://www.paytr.com/");
+        driver.get(Site.url("/"));
         homePage.clickElement(By.xpath("/html/body/header/div[2]/div[2]/div[2]/nav/div[2]"));
         homePage.clickElement(By.xpath("//div[@id='online-odeme-cozumleri']/a[@href='/linkle-odeme']"));
 
-        assertTrue(homePage.verifyCurrentUrl("https://www.paytr.com/linkle-odeme"),
+        assertTrue(homePage.verifyCurrentUrl(Site.url("/linkle-odeme")),
                 "URL is not redirected to Linkle Ödeme page properly.");
         logger.info("Payments menu and Pay with Links button works as expected.");
     }
@@ -0,0 +1,77 @@
+package com.paytr.tests;
+
+import com.paytr.driver.DriverPool;
+import com.paytr.fixture.Site;
+import com.paytr.pages.PayWithLinks;
+import com.paytr.scenario.ScenarioReport;
+import com.paytr.scenario.ScenarioRunner;
+import com.paytr.tests.data.TestDataRow;
+import com.paytr.tests.data.TestDataSource;
+import com.paytr.tests.shard.ShardExtension;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * "Linkle Ödeme" formunun data.xlsx verisiyle çok sayıda kez gönderildiği yük senaryosu.
+ * Yalnızca {@code -Dscenario.submissions} verildiğinde çalışır; satırlar yetmezse veri başa sarılarak tekrar kullanılır.
+ */
+@ExtendWith({ShardExtension.class, SuiteLifecycleExtension.class, TestLogContextExtension.class})
+@EnabledIfSystemProperty(named = "scenario.submissions", matches = "\\d+")
+public class PayWithLinksLoadTest {
+
+    private static final Logger logger = LogManager.getLogger(PayWithLinksLoadTest.class);
+    private static final String PAY_WITH_LINKS_PATH = "/linkle-odeme";
+    private static final String DATA_FILE = "src/test/resources/data.xlsx";
+
+    @Test
+    @DisplayName("Test - 1: Toplu form gönderimi")
+    public void testBulkFormSubmissions() {
+        long submissions = Long.getLong("scenario.submissions");
+        Path dataFile = Paths.get(DATA_FILE);
+        try (Stream<TestDataRow> probe = TestDataSource.rows(dataFile)) {
+            assertTrue(probe.findAny().isPresent(), "No test data rows in " + DATA_FILE);
+        }
+
+        Stream<TestDataRow> rows = Stream.generate(() -> TestDataSource.rows(dataFile))
+                .flatMap(stream -> stream)
+                .limit(submissions);
+        logger.info("Submitting the Pay with Links form {} time(s).", submissions);
+        ScenarioReport report = new ScenarioRunner(DriverPool.getInstance())
+                .run(PayWithLinksLoadTest.class.getSimpleName(), rows, this::submitForm);
+
+        assertEquals(submissions, report.getSucceeded() + report.getFailed(), "Not every scenario was run.");
+        assertEquals(0, report.getFailed(), "Some form submissions failed, see the log for details.");
+    }
+
+    /**
+     * PayWithLinksTest Test - 1 ile aynı akış: çerezleri kabul et, formu doldur ve gönder.
+     */
+    private void submitForm(WebDriver driver, TestDataRow data) {
+        driver.get(Site.url(PAY_WITH_LINKS_PATH));
+        PayWithLinks payWithLinks = new PayWithLinks(driver);
+        payWithLinks.clickElement(PayWithLinks.ACCEPT_COOKIES);
+        payWithLinks.fillForm(
+                data.get("First Name"),
+                data.get("Surname"),
+                data.get("Email"),
+                data.get("Website"),
+                data.get("Phone")
+        );
+        payWithLinks.clickElement(PayWithLinks.BUSINESS_TYPE_DROPDOWN);
+        payWithLinks.clickElement(PayWithLinks.TAX_OPTION);
+        payWithLinks.jsClickElement(PayWithLinks.AGREEMENT_CHECKBOX);
+        payWithLinks.clickElement(PayWithLinks.SUBMIT_BUTTON);
+    }
+}
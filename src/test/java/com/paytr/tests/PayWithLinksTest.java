@@ -1,36 +1,40 @@
 package com.paytr.tests;
 
+import com.paytr.fixture.Site;
 import com.paytr.pages.PayWithLinks;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.paytr.tests.data.ReferenceStore;
+import com.paytr.tests.data.TestDataRow;
+import com.paytr.tests.data.TestDataSource;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
-import org.openqa.selenium.WebDriver;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.FileInputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * "Linkle Ödeme" sayfasıyla ilgili test senaryoları.
+ * Testler sıralı bir zincirdir (form gönderimi → ön başvuru → teşekkür sayfası); bir adım başarısız olursa
+ * sonraki adımlar beklemeden atlanır.
  */
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.DisplayName.class)
 public class PayWithLinksTest extends BaseTest {
 
     private static final Logger logger = LogManager.getLogger(PayWithLinksTest.class);
+    private static final String PAY_WITH_LINKS_PATH = "/linkle-odeme";
+    private static final String DATA_FILE = "src/test/resources/data.xlsx";
     private PayWithLinks payWithLinks;
+    private int attemptedRows;
+    private boolean cookiesAccepted;
 
     @BeforeAll
     public void setupClass() {
-        driver.get("https://www.paytr.com/linkle-odeme");
+        driver.get(Site.url(PAY_WITH_LINKS_PATH));
     }
 
     @BeforeEach
@@ -40,19 +44,43 @@ public class PayWithLinksTest extends BaseTest {
 
     }
 
+    /**
+     * Excel dosyasındaki satırları tembel olarak okur. Kaç satır kullanılacağı {@code -Ddata.rows}
+     * ile belirlenir (varsayılan: 1, tüm satırlar için "all").
+     */
+    Stream<TestDataRow> formData() {
+        String rows = System.getProperty("data.rows", "1");
+        long limit = "all".equalsIgnoreCase(rows) ? Long.MAX_VALUE : Long.parseLong(rows);
+        return TestDataSource.rows(Paths.get(DATA_FILE)).limit(limit);
+    }
+
+    /**
+     * Sayfa yüklendikten hemen sonra, hiçbir etkileşimden önce ölçülür. Zincire bağlı değildir;
+     * bütçe aşımı form testlerini atlatmaz.
+     */
     @Test
+    @DisplayName("Test - 0: Sayfa performans bütçesi")
+    public void testPerformanceBudget() {
+        logger.info("Checking the Pay with Links page against its performance budget.");
+        payWithLinks.assertPerformanceBudget();
+    }
+
+    @ParameterizedTest(name = "{displayName} [{0}]")
+    @MethodSource("formData")
     @DisplayName("Test - 1: Form doldurma ve gönderme")
-    public void testCompleteFormSubmission() throws IOException {
-        logger.info("Accepting cookies.");
-        payWithLinks.clickElement(PayWithLinks.ACCEPT_COOKIES);
-
-        logger.info("Reading data from Excel file.");
-        Map<String, String> data = readDataFromExcel(
-                "src/test/resources/data.xlsx",
-                "First Name", "Surname", "Email", "Website", "Phone"
-        );
+    public void testCompleteFormSubmission(TestDataRow data) {
+        // İlk denemeden sonraki her satır, önceki satır yarıda kalmış olsa da temiz sayfayla başlar
+        if (attemptedRows++ > 0) {
+            logger.info("Navigating back to Pay with Links page for {}.", data);
+            driver.get(Site.url(PAY_WITH_LINKS_PATH));
+        }
+        if (!cookiesAccepted) {
+            logger.info("Accepting cookies.");
+            payWithLinks.clickElement(PayWithLinks.ACCEPT_COOKIES);
+            cookiesAccepted = true;
+        }
 
-        logger.info("Filling the form with Excel data.");
+        logger.info("Filling the form with Excel data from {}.", data);
         payWithLinks.fillForm(
                 data.get("First Name"),
                 data.get("Surname"),
@@ -75,10 +103,11 @@ public class PayWithLinksTest extends BaseTest {
     }
 
     @Test
+    @DependsOn("testCompleteFormSubmission")
     @DisplayName("Test - 2: Ön Başvuru URL kontrolü ve form doldurma")
     public void testVerifyUrlAndClickPreApplication() {
         logger.info("Verifying current URL for 'Üye İşyeri Olun'.");
-        payWithLinks.verifyCurrentUrl("https://www.paytr.com/uye-isyeri-olun");
+        payWithLinks.verifyCurrentUrl(Site.url("/uye-isyeri-olun"));
 
         logger.info("Clicking 'Ön Başvuru Yap' button.");
         payWithLinks.jsClickElement(PayWithLinks.PRELIMINARY_APPLICATION);
@@ -94,8 +123,9 @@ public class PayWithLinksTest extends BaseTest {
     }
 
     @Test
+    @DependsOn("testVerifyUrlAndClickPreApplication")
     @DisplayName("Test - 3: Teşekkür sayfası ve referans kaydı")
-    public void testVerifyThankYouMessageAndSaveReference() throws IOException {
+    public void testVerifyThankYouMessageAndSaveReference() {
         logger.info("Verifying thank you message.");
         String expectedMessage = "Teşekkürler, ön başvurunuz tarafımıza ulaşmıştır.";
         String actualMessage = payWithLinks.getElementText(PayWithLinks.THANK_YOU_MESSAGE);
@@ -112,77 +142,10 @@ public class PayWithLinksTest extends BaseTest {
 
         logger.info("Reference Key: {}, Value: {}", key, value);
 
-        // CSV dosyasına kaydet
-        saveReferenceToCsv(key, value);
-        logger.info("Reference details saved to CSV.");
-    }
-
-    /**
-     * Referans detaylarını bir CSV dosyasına kaydeder.
-     */
-    private void saveReferenceToCsv(String key, String value) throws IOException {
-        String filePath = "src/test/resources/reference_data.csv"; // CSV dosyasının yolu
-
-        try (FileWriter writer = new FileWriter(filePath, true)) {
-            writer.append(key)
-                    .append(",")
-                    .append(value)
-                    .append("\n");
-            logger.info("Reference details saved to CSV file: {}", filePath);
-        } catch (IOException e) {
-            logger.error("Failed to save reference details to CSV.", e);
-            throw e;
-        }
-    }
-
-    /**
-     * Excel dosyasından belirli başlıklara sahip verileri okur.
-     */
-    private Map<String, String> readDataFromExcel(String filePath, String... headers) throws IOException {
-        try (FileInputStream file = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(file)) {
-
-            Sheet sheet = workbook.getSheetAt(0);
-            Map<String, String> data = new HashMap<>();
-
-            // Başlık satırını oku
-            Row headerRow = sheet.getRow(0);
-            Map<String, Integer> headerMap = new HashMap<>();
-            for (Cell cell : headerRow) {
-                headerMap.put(cell.getStringCellValue(), cell.getColumnIndex());
-            }
-
-            // Veri satırını oku
-            Row dataRow = sheet.getRow(1);
-            for (String header : headers) {
-                int columnIndex = headerMap.get(header);
-                Cell cell = dataRow.getCell(columnIndex);
-
-                if (cell != null) {
-                    switch (cell.getCellType()) {
-                        case STRING:
-                            data.put(header, cell.getStringCellValue());
-                            break;
-                        case NUMERIC:
-                            if (header.equalsIgnoreCase("Phone")) {
-                                // Telefon numarasını formatlamak
-                                String phone = String.format("%.0f", cell.getNumericCellValue());
-                                data.put(header, phone);
-                            } else {
-                                data.put(header, String.valueOf(cell.getNumericCellValue()));
-                            }
-                            break;
-                        case BOOLEAN:
-                            data.put(header, String.valueOf(cell.getBooleanCellValue()));
-                            break;
-                        default:
-                            data.put(header, "");
-                    }
-                } else {
-                    data.put(header, "");
-                }
-            }
-            return data;
-        }
+        // CSV dosyasına kaydet (tek yazıcı thread, dosya kilidi ve tekrar kontrolü ile)
+        ReferenceStore.getDefault().append(key, value);
+        // Yazma hatası testi başarısız kılsın; referans sessizce kaybolmasın
+        ReferenceStore.getDefault().flush();
+        logger.info("Reference details stored in CSV under run ID {}.", ReferenceStore.currentRunId());
     }
 }
@@ -0,0 +1,98 @@
+package com.paytr.tests;
+
+import com.paytr.fixture.Site;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bir test adımının sonundaki oturum durumu (çerezler ve URL).
+ * URL site köküne göre saklanır ve çerezler geri yüklenirken alan adı atılır; böylece kontrol noktası
+ * farklı bir base URL'de (ör. her koşuda başka porttan açılan replay sunucusu) de kullanılabilir.
+ */
+final class SessionCheckpoint {
+
+    private final String url;
+    private final List<Map<String, Object>> cookies;
+
+    private SessionCheckpoint(String url, List<Map<String, Object>> cookies) {
+        this.url = url;
+        this.cookies = cookies;
+    }
+
+    static SessionCheckpoint capture(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> stored = new LinkedHashMap<>();
+            stored.put("name", cookie.getName());
+            stored.put("value", cookie.getValue());
+            stored.put("path", cookie.getPath());
+            if (cookie.getExpiry() != null) {
+                stored.put("expiry", cookie.getExpiry().getTime());
+            }
+            stored.put("secure", cookie.isSecure());
+            stored.put("httpOnly", cookie.isHttpOnly());
+            cookies.add(stored);
+        }
+        return new SessionCheckpoint(relativeToSite(driver.getCurrentUrl()), cookies);
+    }
+
+    static SessionCheckpoint read(Path file) throws IOException {
+        Map<String, Object> stored = new Json().toType(
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Object cookie : (List<?>) stored.get("cookies")) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> map = (Map<String, Object>) cookie;
+            cookies.add(map);
+        }
+        return new SessionCheckpoint((String) stored.get("url"), cookies);
+    }
+
+    void write(Path file) throws IOException {
+        Map<String, Object> stored = new LinkedHashMap<>();
+        stored.put("url", url);
+        stored.put("cookies", cookies);
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        Files.write(temp, new Json().toJson(stored).getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Çerezleri sitenin alan adında yeniden oluşturur ve kaydedilen sayfaya gider.
+     */
+    void restore(WebDriver driver) {
+        String target = url.startsWith("/") ? Site.url(url) : url;
+        driver.get(target);
+        driver.manage().deleteAllCookies();
+        for (Map<String, Object> stored : cookies) {
+            Object expiry = stored.get("expiry");
+            driver.manage().addCookie(new Cookie((String) stored.get("name"), (String) stored.get("value"), null,
+                    (String) stored.get("path"), expiry != null ? new Date(((Number) expiry).longValue()) : null,
+                    Boolean.TRUE.equals(stored.get("secure")) && target.startsWith("https:"),
+                    Boolean.TRUE.equals(stored.get("httpOnly"))));
+        }
+        driver.get(target);
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    private static String relativeToSite(String currentUrl) {
+        String baseUrl = Site.baseUrl();
+        return currentUrl.startsWith(baseUrl + "/") ? currentUrl.substring(baseUrl.length()) : currentUrl;
+    }
+}
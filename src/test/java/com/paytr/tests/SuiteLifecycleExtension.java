@@ -0,0 +1,49 @@
+package com.paytr.tests;
+
+import com.paytr.artifacts.FailureArtifacts;
+import com.paytr.driver.DriverPool;
+import com.paytr.fixture.Site;
+import com.paytr.metrics.ActionMetrics;
+import com.paytr.metrics.PageLoadMetrics;
+import com.paytr.pages.ElementCache;
+import com.paytr.pages.LocatorRegistry;
+import com.paytr.tests.data.ReferenceStore;
+import com.paytr.wait.WaitEngine;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Test koşusunun tamamına ait kaynakları yönetir.
+ * Kök store'a kaydedilen kaynak, JUnit tüm testleri bitirdiğinde kapatılır.
+ */
+public class SuiteLifecycleExtension implements BeforeAllCallback {
+
+    private static final String RESOURCE_KEY = SuiteLifecycleExtension.class.getName();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(RESOURCE_KEY, key -> new SuiteResources(), SuiteResources.class);
+    }
+
+    /**
+     * Koşu sonunda driver havuzunu kapatan, koşu raporlarını loglayan ve bekleyen hata kayıtlarını yazdıran kaynak.
+     */
+    private static class SuiteResources implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() {
+            DriverPool.getInstance().shutdown();
+            Site.stop();
+            WaitEngine.getInstance().logReport();
+            ActionMetrics.getInstance().export();
+            PageLoadMetrics.getInstance().export();
+            LocatorRegistry.getInstance().logReport();
+            ElementCache.logReport();
+            FailureArtifacts.getInstance().close();
+            // Yazılamayan referans varsa hata fırlatır; diğer kaynaklar kapatıldıktan sonra çağrılır
+            ReferenceStore.closeDefault();
+        }
+    }
+}
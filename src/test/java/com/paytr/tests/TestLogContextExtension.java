@@ -0,0 +1,40 @@
+package com.paytr.tests;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Çalışan test sınıfını ve metodunu log bağlamına (ThreadContext) yazar.
+ * log4j2.xml'deki Routing appender bu bilgiyle her test sınıfının loglarını ayrı dosyaya yönlendirir.
+ */
+public class TestLogContextExtension implements BeforeAllCallback, AfterAllCallback,
+        BeforeEachCallback, AfterEachCallback {
+
+    static final String TEST_CLASS_KEY = "testClass";
+    static final String TEST_METHOD_KEY = "testMethod";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        ThreadContext.put(TEST_CLASS_KEY, context.getRequiredTestClass().getSimpleName());
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ThreadContext.put(TEST_CLASS_KEY, context.getRequiredTestClass().getSimpleName());
+        ThreadContext.put(TEST_METHOD_KEY, context.getRequiredTestMethod().getName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ThreadContext.remove(TEST_METHOD_KEY);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        ThreadContext.remove(TEST_CLASS_KEY);
+    }
+}
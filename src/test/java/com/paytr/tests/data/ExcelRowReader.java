@@ -0,0 +1,300 @@
+package com.paytr.tests.data;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Excel (.xlsx) dosyasının ilk sayfasını SAX (event model) ile satır satır okur.
+ * Çalışma kitabı belleğe yüklenmez; satırlar arka plandaki bir okuyucu thread'den sınırlı bir
+ * kuyruk üzerinden tembel (lazy) olarak verilir. İlk satır başlık satırıdır.
+ */
+public final class ExcelRowReader {
+
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final Object END_OF_SHEET = new Object();
+
+    private ExcelRowReader() {
+    }
+
+    /**
+     * Dosyadaki veri satırlarını sırayla döndüren bir stream açar. Stream kapatıldığında okuma durdurulur.
+     * Sayısal hücreler "Phone" başlığında tam sayı olarak, diğerlerinde double olarak metne çevrilir.
+     */
+    public static Stream<TestDataRow> stream(Path file) {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Producer producer = new Producer(file, queue);
+        Thread thread = new Thread(producer, "excel-reader-" + file.getFileName());
+        thread.setDaemon(true);
+        thread.start();
+
+        Iterator<TestDataRow> iterator = new RowIterator(queue);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    producer.cancelled = true;
+                    thread.interrupt();
+                });
+    }
+
+    /**
+     * Kuyruktaki satırları tüketen iterator; okuyucu thread'deki hatayı tüketiciye taşır.
+     */
+    private static final class RowIterator implements Iterator<TestDataRow> {
+
+        private final BlockingQueue<Object> queue;
+        private Object next;
+
+        private RowIterator(BlockingQueue<Object> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while reading Excel rows.", e);
+                }
+            }
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            return next != END_OF_SHEET;
+        }
+
+        @Override
+        public TestDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TestDataRow row = (TestDataRow) next;
+            next = null;
+            return row;
+        }
+    }
+
+    /**
+     * Sayfayı SAX ile okuyup satırları kuyruğa koyan görev.
+     */
+    private static final class Producer implements Runnable {
+
+        private final Path file;
+        private final BlockingQueue<Object> queue;
+        private volatile boolean cancelled;
+
+        private Producer(Path file, BlockingQueue<Object> queue) {
+            this.file = file;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                Iterator<InputStream> sheets = reader.getSheetsData();
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new SheetHandler(sharedStrings, this));
+                    parser.parse(new InputSource(sheet));
+                }
+                put(END_OF_SHEET);
+            } catch (CancelledException e) {
+                // Tüketici stream'i kapattı
+            } catch (Exception e) {
+                if (!cancelled) {
+                    queue.clear();
+                    queue.offer(new RuntimeException("Failed to read Excel file: " + file, e));
+                }
+            }
+        }
+
+        private void put(Object item) throws CancelledException {
+            if (cancelled) {
+                throw new CancelledException();
+            }
+            try {
+                queue.put(item);
+            } catch (InterruptedException e) {
+                throw new CancelledException();
+            }
+        }
+    }
+
+    /**
+     * Sheet XML'indeki row/c/v elementlerini satır nesnelerine çeviren SAX handler.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final Producer producer;
+        private final List<String> headers = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+
+        private Map<String, String> currentRow;
+        private int rowNumber;
+        private int columnIndex;
+        private String cellType;
+        private boolean hasFormula;
+        private boolean collectingText;
+
+        private SheetHandler(ReadOnlySharedStringsTable sharedStrings, Producer producer) {
+            this.sharedStrings = sharedStrings;
+            this.producer = producer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    String rowReference = attributes.getValue("r");
+                    rowNumber = rowReference != null ? Integer.parseInt(rowReference) - 1 : rowNumber + 1;
+                    currentRow = new HashMap<>();
+                    columnIndex = -1;
+                    break;
+                case "c":
+                    String cellReference = attributes.getValue("r");
+                    columnIndex = cellReference != null ? columnIndexOf(cellReference) : columnIndex + 1;
+                    cellType = attributes.getValue("t");
+                    hasFormula = false;
+                    text.setLength(0);
+                    break;
+                case "f":
+                    hasFormula = true;
+                    break;
+                case "v":
+                case "t":
+                    collectingText = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collectingText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (localName) {
+                case "v":
+                case "t":
+                    collectingText = false;
+                    break;
+                case "c":
+                    storeCell();
+                    break;
+                case "row":
+                    finishRow();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void storeCell() {
+            if (isHeaderRow()) {
+                while (headers.size() <= columnIndex) {
+                    headers.add(null);
+                }
+                headers.set(columnIndex, cellValue(""));
+                return;
+            }
+            if (columnIndex >= headers.size() || headers.get(columnIndex) == null) {
+                return;
+            }
+            String header = headers.get(columnIndex);
+            currentRow.put(header, cellValue(header));
+        }
+
+        private String cellValue(String header) {
+            if (hasFormula) {
+                return "";
+            }
+            String raw = text.toString();
+            if ("s".equals(cellType)) {
+                return sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+            }
+            if ("inlineStr".equals(cellType) || "str".equals(cellType)) {
+                return raw;
+            }
+            if ("b".equals(cellType)) {
+                return String.valueOf("1".equals(raw));
+            }
+            if ("e".equals(cellType) || raw.isEmpty()) {
+                return "";
+            }
+            double number = Double.parseDouble(raw);
+            if (header.equalsIgnoreCase("Phone")) {
+                // Telefon numarasını formatlamak
+                return String.format("%.0f", number);
+            }
+            return String.valueOf(number);
+        }
+
+        private boolean isHeaderRow() {
+            return rowNumber == 0;
+        }
+
+        private void finishRow() throws SAXException {
+            if (isHeaderRow() || currentRow.isEmpty()) {
+                return;
+            }
+            try {
+                producer.put(new TestDataRow(rowNumber, currentRow));
+            } catch (CancelledException e) {
+                throw new SAXException(e);
+            }
+        }
+    }
+
+    /**
+     * "B12" gibi bir hücre referansından 0 tabanlı sütun index'ini hesaplar.
+     */
+    static int columnIndexOf(String cellReference) {
+        int index = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (!Character.isLetter(c)) {
+                break;
+            }
+            index = index * 26 + (Character.toUpperCase(c) - 'A' + 1);
+        }
+        return index - 1;
+    }
+
+    /**
+     * Tüketici stream'i kapattığında okuyucu thread'i durdurmak için kullanılır.
+     */
+    private static final class CancelledException extends Exception {
+    }
+}
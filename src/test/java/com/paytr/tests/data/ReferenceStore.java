@@ -0,0 +1,354 @@
+package com.paytr.tests.data;
+
+import com.paytr.fixture.SiteMode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Testlerde üretilen referans numaralarını CSV dosyasına ekleyen, eşzamanlı kullanıma uygun kayıt deposu.
+ *
+ * <ul>
+ *     <li>Birden fazla thread kayıt ekleyebilir; dosyaya yalnızca tek bir yazıcı thread toplu (batch) halde yazar.</li>
+ *     <li>Yazma sırasında dosya kilidi alınır; aynı dosyaya yazan diğer JVM'lerin (fork) satırları karışmaz.</li>
+ *     <li>Aynı referans numarası, hangi JVM'den gelirse gelsin yalnızca bir kez yazılır.</li>
+ *     <li>Satırlar koşu kimliği (run ID) ile yazılır; {@link #findByRunId(String)} bellekteki indeksten okur,
+ *     dosyanın yalnızca son okunmadan sonra eklenen kısmını işler.</li>
+ *     <li>Yazılamayan kayıtlar "bilinen" referanslardan çıkarılır (tekrar eklenebilir) ve hata bir sonraki
+ *     {@link #flush()} ya da {@link #close()} çağrısında fırlatılır.</li>
+ * </ul>
+ *
+ * Replay modunda referanslar sahte (arşiv sunucusunun ürettiği) olduğundan gerçek referans dosyasına değil,
+ * koşuya özgü {@code target/replay-references-<runId>.csv} dosyasına yazılır.
+ *
+ * Satır biçimi: {@code anahtar,referans,runId}. Koşu kimliği {@code -Drun.id} ile verilebilir;
+ * her toplu yazmadan sonra fsync yapılması {@code -Dreference.fsync=false} ile kapatılabilir.
+ */
+public final class ReferenceStore implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ReferenceStore.class);
+    private static final String DEFAULT_FILE = "src/test/resources/reference_data.csv";
+    private static final String RUN_ID = System.getProperty("run.id", generateRunId());
+    private static final String REPLAY_FILE = "target/replay-references-" + RUN_ID + ".csv";
+    private static final int MAX_BATCH_SIZE = 256;
+    /** Kuyruğun sonunu işaretler; yazıcı thread bu nesneye kadar olan her şeyi yazıp çıkar. */
+    private static final Object END_OF_QUEUE = new Object();
+
+    private static ReferenceStore defaultStore;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Set<String> knownReferences = ConcurrentHashMap.newKeySet();
+    private final Set<String> persistedReferences = new HashSet<>();
+    private final Map<String, List<String>> referencesByRunId = new HashMap<>();
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+    private final Object appendLock = new Object();
+    private final Thread writer;
+    private long indexedOffset;
+    private volatile boolean closed;
+
+    public ReferenceStore(Path file, boolean fsync) throws IOException {
+        this.file = file;
+        this.fsync = fsync;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try (FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+            catchUp();
+        }
+        this.writer = new Thread(this::writeLoop, "reference-store-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * src/test/resources/reference_data.csv dosyasına (replay modunda koşuya özgü target dosyasına)
+     * yazan ortak depoyu döndürür.
+     */
+    public static synchronized ReferenceStore getDefault() {
+        if (defaultStore == null) {
+            Path file = Paths.get(SiteMode.current() == SiteMode.REPLAY ? REPLAY_FILE : DEFAULT_FILE);
+            try {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                defaultStore = new ReferenceStore(file,
+                        Boolean.parseBoolean(System.getProperty("reference.fsync", "true")));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to open reference store: " + file, e);
+            }
+        }
+        return defaultStore;
+    }
+
+    /**
+     * Ortak depo açıldıysa bekleyen kayıtları yazıp kapatır. Koşunun sonunda çağrılır.
+     */
+    public static synchronized void closeDefault() {
+        if (defaultStore != null) {
+            try {
+                defaultStore.close();
+            } finally {
+                defaultStore = null;
+            }
+        }
+    }
+
+    public static String currentRunId() {
+        return RUN_ID;
+    }
+
+    /**
+     * Referansı mevcut koşu kimliğiyle yazma kuyruğuna ekler.
+     *
+     * @return referans daha önce kaydedilmişse false
+     */
+    public boolean append(String key, String reference) {
+        synchronized (appendLock) {
+            if (closed) {
+                throw new IllegalStateException("Reference store is closed: " + file);
+            }
+            if (!knownReferences.add(reference)) {
+                logger.info("Reference {} is already stored, skipping.", reference);
+                return false;
+            }
+            queue.add(new Entry(key, reference, RUN_ID));
+            return true;
+        }
+    }
+
+    /**
+     * Kuyruktaki tüm kayıtlar dosyaya yazılana kadar bekler.
+     *
+     * @throws UncheckedIOException son flush'tan bu yana bir toplu yazma başarısız olduysa
+     */
+    public void flush() {
+        CountDownLatch latch = new CountDownLatch(1);
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            queue.add(latch);
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while flushing reference store.", e);
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Yazıcı thread'in kaydettiği yazma hatasını (varsa) çağırana iletir ve temizler.
+     */
+    private void throwWriteFailure() {
+        IOException failure = writeFailure.getAndSet(null);
+        if (failure != null) {
+            throw new UncheckedIOException("Failed to write references to " + file, failure);
+        }
+    }
+
+    /**
+     * Verilen koşuda kaydedilen referansları, yazılma sırasıyla döndürür.
+     */
+    public List<String> findByRunId(String runId) {
+        flush();
+        synchronized (this) {
+            try (FileLock ignored = channel.lock(0, Long.MAX_VALUE, true)) {
+                catchUp();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to read reference store: " + file, e);
+            }
+            List<String> references = referencesByRunId.get(runId);
+            return references != null ? new ArrayList<>(references) : Collections.<String>emptyList();
+        }
+    }
+
+    /**
+     * Yeni kayıt kabulünü durdurur, kuyruktakilerin yazılmasını bekler ve dosyayı kapatır.
+     * Yazıcı thread kesilmez (interrupt); FileChannel G/Ç sırasında kesilirse kanal kapanır.
+     *
+     * @throws UncheckedIOException bekleyen kayıtlardan biri yazılamadıysa
+     */
+    @Override
+    public void close() {
+        synchronized (appendLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(END_OF_QUEUE);
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while closing reference store.", e);
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close reference store: {}", file, e);
+        }
+        throwWriteFailure();
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>();
+        boolean end = false;
+        while (!end) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            int endIndex = batch.indexOf(END_OF_QUEUE);
+            if (endIndex >= 0) {
+                batch.subList(endIndex, batch.size()).clear();
+                end = true;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Kayıtları dosya kilidi altında tek seferde dosyanın sonuna ekler ve flush bekleyenleri serbest bırakır.
+     */
+    private void writeBatch(List<Object> batch) {
+        List<Entry> entries = new ArrayList<>();
+        List<CountDownLatch> flushRequests = new ArrayList<>();
+        for (Object item : batch) {
+            if (item instanceof Entry) {
+                entries.add((Entry) item);
+            } else {
+                flushRequests.add((CountDownLatch) item);
+            }
+        }
+
+        if (!entries.isEmpty()) {
+            synchronized (this) {
+                try (FileLock ignored = channel.lock()) {
+                    catchUp();
+                    StringBuilder lines = new StringBuilder();
+                    Set<String> written = new HashSet<>();
+                    for (Entry entry : entries) {
+                        if (persistedReferences.contains(entry.reference) || !written.add(entry.reference)) {
+                            continue;
+                        }
+                        lines.append(entry.key).append(',').append(entry.reference).append(',')
+                                .append(entry.runId).append('\n');
+                    }
+                    if (lines.length() > 0) {
+                        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                        long position = channel.size();
+                        while (bytes.hasRemaining()) {
+                            position += channel.write(bytes, position);
+                        }
+                        if (fsync) {
+                            channel.force(false);
+                        }
+                        catchUp();
+                        logger.info("Stored {} reference(s) in {}", written.size(), file);
+                    }
+                } catch (IOException e) {
+                    logger.error("Failed to write references to {}", file, e);
+                    for (Entry entry : entries) {
+                        if (!persistedReferences.contains(entry.reference)) {
+                            knownReferences.remove(entry.reference);
+                        }
+                    }
+                    IOException previous = writeFailure.getAndSet(e);
+                    if (previous != null) {
+                        e.addSuppressed(previous);
+                    }
+                }
+            }
+        }
+
+        for (CountDownLatch latch : flushRequests) {
+            latch.countDown();
+        }
+    }
+
+    /**
+     * Dosyanın indekslenmiş kısmından sonra eklenen tam satırları okuyup indekse ekler.
+     * Çağıran taraf dosya kilidini ve nesne kilidini tutmalıdır.
+     */
+    private void catchUp() throws IOException {
+        long size = channel.size();
+        if (size <= indexedOffset) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (size - indexedOffset));
+        long position = indexedOffset;
+        while (buffer.hasRemaining() && channel.read(buffer, position) > 0) {
+            position = indexedOffset + buffer.position();
+        }
+
+        String content = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        int lastNewline = content.lastIndexOf('\n');
+        if (lastNewline < 0) {
+            return;
+        }
+        for (String line : content.substring(0, lastNewline).split("\n")) {
+            String[] parts = line.trim().split(",");
+            if (parts.length < 2) {
+                continue;
+            }
+            String runId = parts.length > 2 ? parts[2] : "";
+            knownReferences.add(parts[1]);
+            persistedReferences.add(parts[1]);
+            List<String> references = referencesByRunId.get(runId);
+            if (references == null) {
+                references = new ArrayList<>();
+                referencesByRunId.put(runId, references);
+            }
+            references.add(parts[1]);
+        }
+        indexedOffset += content.substring(0, lastNewline + 1).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String generateRunId() {
+        return Long.toString(System.currentTimeMillis(), 36) + "-"
+                + Integer.toHexString(ThreadLocalRandom.current().nextInt(0x10000));
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final String reference;
+        private final String runId;
+
+        private Entry(String key, String reference, String runId) {
+            this.key = key;
+            this.reference = reference;
+            this.runId = runId;
+        }
+    }
+}
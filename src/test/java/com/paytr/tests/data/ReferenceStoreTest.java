@@ -0,0 +1,88 @@
+package com.paytr.tests.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ReferenceStore} tekrar kontrolü, koşu kimliğine göre okuma ve kapatma davranışının birim testleri.
+ */
+public class ReferenceStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void duplicateReferencesAreStoredOnce() throws IOException {
+        Path file = directory.resolve("references.csv");
+        try (ReferenceStore store = new ReferenceStore(file, false)) {
+            assertTrue(store.append("Referans no", "1001"));
+            assertFalse(store.append("Referans no", "1001"));
+            store.flush();
+        }
+
+        assertEquals(Collections.singletonList("Referans no,1001," + ReferenceStore.currentRunId()), lines(file));
+    }
+
+    @Test
+    public void referencesWrittenByAnotherStoreAreKnown() throws IOException {
+        Path file = directory.resolve("references.csv");
+        Files.write(file, "Referans no,2002,earlier-run\n".getBytes(StandardCharsets.UTF_8));
+
+        try (ReferenceStore first = new ReferenceStore(file, false);
+             ReferenceStore second = new ReferenceStore(file, false)) {
+            assertFalse(first.append("Referans no", "2002"));
+            assertTrue(first.append("Referans no", "2003"));
+            first.flush();
+            // ikinci depo 2003'ü bellekte bilmez; yazmadan önce dosyayı okuduğu için tekrar yazmaz
+            assertTrue(second.append("Referans no", "2003"));
+            second.flush();
+        }
+
+        assertEquals(2, lines(file).size());
+    }
+
+    @Test
+    public void findByRunIdReturnsReferencesInWriteOrder() throws IOException {
+        Path file = directory.resolve("references.csv");
+        Files.write(file, "Referans no,3001,other-run\n".getBytes(StandardCharsets.UTF_8));
+
+        try (ReferenceStore store = new ReferenceStore(file, false)) {
+            store.append("Referans no", "3002");
+            store.append("Referans no", "3003");
+
+            assertEquals(Arrays.asList("3002", "3003"), store.findByRunId(ReferenceStore.currentRunId()));
+            assertEquals(Collections.singletonList("3001"), store.findByRunId("other-run"));
+            assertTrue(store.findByRunId("unknown-run").isEmpty());
+        }
+    }
+
+    @Test
+    public void closeWritesPendingReferencesAndRejectsNewOnes() throws IOException {
+        Path file = directory.resolve("references.csv");
+        ReferenceStore store = new ReferenceStore(file, false);
+        for (int i = 0; i < 1000; i++) {
+            store.append("Referans no", Integer.toString(4000 + i));
+        }
+        store.close();
+
+        assertEquals(1000, lines(file).size());
+        assertThrows(IllegalStateException.class, () -> store.append("Referans no", "5000"));
+    }
+
+    private static List<String> lines(Path file) throws IOException {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+    }
+}
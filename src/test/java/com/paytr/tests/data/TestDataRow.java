@@ -0,0 +1,102 @@
+package com.paytr.tests.data;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Test verisi dosyasındaki tek bir satır. Değerler başlık adıyla okunur.
+ * Hücreler metin olarak saklanır (anlık görüntü dosyası da metin yazar); sayısal ve mantıksal sütunlar
+ * {@link #getLong(String)}, {@link #getDouble(String)} ve {@link #getBoolean(String)} ile okunurken dönüştürülür.
+ * Dönüştürülemeyen değer, satır ve sütun adıyla birlikte {@link IllegalArgumentException} fırlatır.
+ */
+public final class TestDataRow {
+
+    private final int rowNumber;
+    private final Map<String, String> values;
+
+    public TestDataRow(int rowNumber, Map<String, String> values) {
+        this.rowNumber = rowNumber;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Dosyadaki satır numarası (başlık satırı 0'dır).
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    /**
+     * Başlığa ait değeri döndürür; hücre boşsa veya başlık yoksa boş string döner.
+     */
+    public String get(String header) {
+        String value = values.get(header);
+        return value != null ? value : "";
+    }
+
+    /**
+     * Tam sayı sütununu okur. Excel sayısal hücreleri "5.0" biçiminde geldiğinden ondalık kısmı sıfır olan
+     * değerler de kabul edilir. Baştaki sıfırların korunması gereken değerler (ör. telefon) için {@link #get(String)}
+     * kullanılmalıdır.
+     */
+    public long getLong(String header) {
+        String value = require(header);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            double number = parseDouble(header, value);
+            if (number != Math.rint(number) || Double.isInfinite(number)) {
+                throw invalid(header, value, "a whole number");
+            }
+            return (long) number;
+        }
+    }
+
+    public double getDouble(String header) {
+        return parseDouble(header, require(header));
+    }
+
+    /**
+     * "true"/"false" (büyük/küçük harf duyarsız) değerlerini okur; Excel mantıksal hücreleri bu biçimde gelir.
+     */
+    public boolean getBoolean(String header) {
+        String value = require(header);
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw invalid(header, value, "true or false");
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    private String require(String header) {
+        String value = get(header).trim();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Column '" + header + "' is empty in " + this + ".");
+        }
+        return value;
+    }
+
+    private double parseDouble(String header, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw invalid(header, value, "a number");
+        }
+    }
+
+    private IllegalArgumentException invalid(String header, String value, String expected) {
+        return new IllegalArgumentException("Column '" + header + "' in " + this + " is not " + expected + ": '"
+                + value + "'.");
+    }
+
+    @Override
+    public String toString() {
+        return "row " + rowNumber;
+    }
+}
@@ -0,0 +1,55 @@
+package com.paytr.tests.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TestDataRow} tipli okuma metotlarının birim testleri.
+ */
+public class TestDataRowTest {
+
+    @Test
+    public void numericCellsAreReadAsNumbers() {
+        TestDataRow row = row("Phone", "5321234567", "Amount", "200000.0", "Rate", "1.5");
+
+        assertEquals(5321234567L, row.getLong("Phone"));
+        assertEquals("5321234567", row.get("Phone"));
+        assertEquals(200000L, row.getLong("Amount"));
+        assertEquals(1.5, row.getDouble("Rate"));
+    }
+
+    @Test
+    public void booleanCellsAreReadCaseInsensitively() {
+        TestDataRow row = row("Agree", "TRUE", "Newsletter", "false");
+
+        assertTrue(row.getBoolean("Agree"));
+        assertFalse(row.getBoolean("Newsletter"));
+    }
+
+    @Test
+    public void invalidOrMissingValuesNameTheRowAndColumn() {
+        TestDataRow row = row("Rate", "1.5", "Phone", "abc");
+
+        IllegalArgumentException notWhole = assertThrows(IllegalArgumentException.class, () -> row.getLong("Rate"));
+        assertTrue(notWhole.getMessage().contains("'Rate'") && notWhole.getMessage().contains("row 3"));
+        assertThrows(IllegalArgumentException.class, () -> row.getDouble("Phone"));
+        assertThrows(IllegalArgumentException.class, () -> row.getBoolean("Phone"));
+        assertThrows(IllegalArgumentException.class, () -> row.getLong("Missing"));
+        assertEquals("", row.get("Missing"));
+    }
+
+    private static TestDataRow row(String... headersAndValues) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < headersAndValues.length; i += 2) {
+            values.put(headersAndValues[i], headersAndValues[i + 1]);
+        }
+        return new TestDataRow(3, values);
+    }
+}
@@ -0,0 +1,167 @@
+package com.paytr.tests.data;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Test verisinin derlenmiş ikili (binary) anlık görüntüsü.
+ *
+ * <pre>
+ * int  magic ("PTRD"), int version, long footerOffset
+ * satırlar: int rowNumber, short pairCount, pairCount x (short headerIndex, string value)
+ * int  -1 (satır sonu işareti)
+ * footer: int headerCount, headerCount x string
+ * string: int byteLength, UTF-8 bytes
+ * </pre>
+ *
+ * Okuma tarafı dosyayı belleğe eşler (memory-map) ve satırları tembel olarak çözer; Apache POI yüklenmez.
+ */
+final class TestDataSnapshot {
+
+    private static final int MAGIC = 0x50545244;
+    private static final int VERSION = 1;
+    private static final int ROWS_OFFSET = 16;
+    private static final int END_OF_ROWS = -1;
+
+    private TestDataSnapshot() {
+    }
+
+    /**
+     * Verilen satırları snapshot dosyasına yazar.
+     */
+    static void write(Stream<TestDataRow> rows, Path target) throws IOException {
+        Map<String, Integer> headerIndexes = new LinkedHashMap<>();
+        long footerOffset;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(0L);
+
+            Iterator<TestDataRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TestDataRow row = iterator.next();
+                Map<String, String> values = row.asMap();
+                out.writeInt(row.getRowNumber());
+                out.writeShort(values.size());
+                for (Map.Entry<String, String> entry : values.entrySet()) {
+                    Integer index = headerIndexes.get(entry.getKey());
+                    if (index == null) {
+                        index = headerIndexes.size();
+                        headerIndexes.put(entry.getKey(), index);
+                    }
+                    out.writeShort(index);
+                    writeString(out, entry.getValue());
+                }
+            }
+            out.writeInt(END_OF_ROWS);
+
+            footerOffset = out.size();
+            out.writeInt(headerIndexes.size());
+            for (String header : headerIndexes.keySet()) {
+                writeString(out, header);
+            }
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(target.toFile(), "rw")) {
+            file.seek(8);
+            file.writeLong(footerOffset);
+        }
+    }
+
+    /**
+     * Snapshot dosyasını belleğe eşler ve satırlarını sırayla döndüren bir stream açar.
+     */
+    static Stream<TestDataRow> read(Path snapshot) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a test data snapshot or unsupported version: " + snapshot);
+        }
+        int footerOffset = (int) buffer.getLong();
+
+        ByteBuffer footer = buffer.duplicate();
+        footer.position(footerOffset);
+        int headerCount = footer.getInt();
+        List<String> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(readString(footer));
+        }
+
+        ByteBuffer rows = buffer.duplicate();
+        rows.position(ROWS_OFFSET);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                new RowIterator(rows, headers), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Eşlenmiş tampondan satırları istendikçe çözen iterator.
+     */
+    private static final class RowIterator implements Iterator<TestDataRow> {
+
+        private final ByteBuffer buffer;
+        private final List<String> headers;
+        private int nextRowNumber;
+
+        private RowIterator(ByteBuffer buffer, List<String> headers) {
+            this.buffer = buffer;
+            this.headers = headers;
+            this.nextRowNumber = buffer.getInt();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRowNumber != END_OF_ROWS;
+        }
+
+        @Override
+        public TestDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int pairCount = buffer.getShort();
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < pairCount; i++) {
+                values.put(headers.get(buffer.getShort()), readString(buffer));
+            }
+            TestDataRow row = new TestDataRow(nextRowNumber, values);
+            nextRowNumber = buffer.getInt();
+            return row;
+        }
+    }
+}
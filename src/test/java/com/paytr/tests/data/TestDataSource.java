@@ -0,0 +1,107 @@
+package com.paytr.tests.data;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.stream.Stream;
+
+/**
+ * Excel test verisine erişim noktası.
+ * İlk okumada .xlsx dosyası, içerik hash'i ile anahtarlanan ikili bir snapshot'a derlenir; sonraki koşular
+ * ve fork edilen JVM'ler Apache POI'yi hiç yüklemeden bu snapshot'ı belleğe eşleyerek okur.
+ * Excel dosyası değiştiğinde hash değişeceği için snapshot otomatik olarak yeniden oluşturulur.
+ * Snapshot dizini {@code -Ddata.cache.dir} ile değiştirilebilir (varsayılan: target/test-data-cache).
+ */
+public final class TestDataSource {
+
+    private static final Logger logger = LogManager.getLogger(TestDataSource.class);
+    private static final String SNAPSHOT_EXTENSION = ".snap";
+
+    private TestDataSource() {
+    }
+
+    /**
+     * Dosyadaki veri satırlarını sırayla döndürür.
+     */
+    public static Stream<TestDataRow> rows(Path excelFile) {
+        try {
+            Path snapshot = snapshotPathFor(excelFile);
+            if (!Files.exists(snapshot)) {
+                buildSnapshot(excelFile, snapshot);
+            } else {
+                logger.info("Using test data snapshot {}", snapshot);
+            }
+            return TestDataSnapshot.read(snapshot);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load test data from " + excelFile, e);
+        }
+    }
+
+    private static Path snapshotPathFor(Path excelFile) throws IOException {
+        Path cacheDir = Paths.get(System.getProperty("data.cache.dir", "target/test-data-cache"));
+        return cacheDir.resolve(baseName(excelFile) + "-" + sha256(excelFile) + SNAPSHOT_EXTENSION);
+    }
+
+    /**
+     * Excel dosyasını okuyup snapshot'ı geçici bir dosyaya yazar ve atomik olarak yerine taşır;
+     * aynı anda derleme yapan fork'lar yarım dosya görmez. Aynı dosyanın eski snapshot'ları silinir.
+     */
+    private static void buildSnapshot(Path excelFile, Path snapshot) throws IOException {
+        long start = System.currentTimeMillis();
+        Path cacheDir = snapshot.getParent();
+        Files.createDirectories(cacheDir);
+
+        Path temp = Files.createTempFile(cacheDir, baseName(excelFile), ".tmp");
+        try (Stream<TestDataRow> rows = ExcelRowReader.stream(excelFile)) {
+            TestDataSnapshot.write(rows, temp);
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        logger.info("Compiled {} into test data snapshot {} in {} ms", excelFile, snapshot,
+                System.currentTimeMillis() - start);
+
+        try (DirectoryStream<Path> old = Files.newDirectoryStream(cacheDir, baseName(excelFile) + "-*" + SNAPSHOT_EXTENSION)) {
+            for (Path path : old) {
+                if (!path.equals(snapshot)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(file)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.paytr.tests.shard;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Koşuyu {@code -Dshard.count} parçaya bölüp yalnızca {@code -Dshard.index} numaralı parçanın (1 tabanlı)
+ * test birimlerini çalıştırır; diğerleri "Not in shard" gerekçesiyle atlanır. Dağıtım {@link ShardPlan} ile
+ * geçmiş sürelere göre yapılır.
+ *
+ * Her birimin süresi ölçülür: tek parça koşularda doğrudan {@code -Dshard.timings} dosyasına
+ * (varsayılan: shard-timings.properties) işlenir; çok parçalı koşularda {@code -Dshard.dir}
+ * (varsayılan: target/shards) altına shard başına ayrı dosyaya yazılır ve {@link ShardReportMerger} ile
+ * birleştirilir. Böylece çalışan shard'lar planlama sırasında birbirlerinin yeni sürelerini görmez.
+ */
+public class ShardExtension implements ExecutionCondition, BeforeAllCallback, AfterAllCallback,
+        BeforeEachCallback, AfterEachCallback {
+
+    private static final Logger logger = LogManager.getLogger(ShardExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ShardExtension.class);
+    static final String SKIP_REASON_PREFIX = "Not in shard";
+    static final int SHARD_INDEX = Integer.getInteger("shard.index", 1);
+    static final int SHARD_COUNT = Integer.getInteger("shard.count", 1);
+    static final Path TIMINGS_FILE = Paths.get(System.getProperty("shard.timings", "shard-timings.properties"));
+    static final Path SHARD_DIR = Paths.get(System.getProperty("shard.dir", "target/shards"));
+
+    private static final String START_KEY = "start";
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (SHARD_COUNT <= 1) {
+            return ConditionEvaluationResult.enabled("Sharding disabled.");
+        }
+        Class<?> testClass = context.getRequiredTestClass();
+        ShardPlan plan = session(context).plan(testClass);
+        boolean runsHere = context.getTestMethod()
+                .map(method -> plan.shardOf(ShardPlan.unitKey(testClass, method)) == SHARD_INDEX)
+                .orElseGet(() -> plan.runsIn(testClass, SHARD_INDEX));
+        return runsHere
+                ? ConditionEvaluationResult.enabled("In shard " + SHARD_INDEX + "/" + SHARD_COUNT + ".")
+                : ConditionEvaluationResult.disabled(SKIP_REASON_PREFIX + " " + SHARD_INDEX + "/" + SHARD_COUNT + ".");
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (ShardPlan.isChain(context.getRequiredTestClass())) {
+            context.getStore(NAMESPACE).put(START_KEY, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove(START_KEY, Long.class);
+        if (start != null) {
+            session(context).record(context.getRequiredTestClass().getName(), start);
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (!ShardPlan.isChain(context.getRequiredTestClass())) {
+            context.getStore(NAMESPACE).put(START_KEY, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove(START_KEY, Long.class);
+        if (start != null) {
+            session(context).record(
+                    ShardPlan.unitKey(context.getRequiredTestClass(), context.getRequiredTestMethod()), start);
+        }
+    }
+
+    private static ShardSession session(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(ShardSession.class, key -> new ShardSession(), ShardSession.class);
+    }
+
+    /**
+     * Koşu boyunca planı ve ölçülen süreleri tutar; koşu sonunda süreleri dosyaya yazar.
+     */
+    private static class ShardSession implements ExtensionContext.Store.CloseableResource {
+
+        private final Map<String, Long> measured = new ConcurrentHashMap<>();
+        private final long started = System.nanoTime();
+        private ShardPlan plan;
+
+        private ShardSession() {
+            if (SHARD_COUNT < 1 || SHARD_INDEX < 1 || SHARD_INDEX > SHARD_COUNT) {
+                throw new IllegalArgumentException("shard.index must be between 1 and shard.count (" + SHARD_COUNT
+                        + "), was: " + SHARD_INDEX);
+            }
+        }
+
+        /**
+         * Planı ilk çağrıda, test sınıfının yüklendiği dizindeki tüm test sınıflarıyla hesaplar.
+         */
+        private synchronized ShardPlan plan(Class<?> testClass) {
+            if (plan != null) {
+                return plan;
+            }
+            try {
+                Path root = Paths.get(testClass.getProtectionDomain().getCodeSource().getLocation().toURI());
+                plan = ShardPlan.create(root, testClass.getClassLoader(), ShardTimings.read(TIMINGS_FILE), SHARD_COUNT);
+            } catch (IOException | URISyntaxException e) {
+                throw new RuntimeException("Failed to plan shards from " + TIMINGS_FILE, e);
+            }
+            logger.info("Shard {}/{}: {} unit(s), ~{} s planned; makespan ~{} s across all shards.", SHARD_INDEX,
+                    SHARD_COUNT, plan.unitCount(SHARD_INDEX), TimeUnit.MILLISECONDS.toSeconds(plan.plannedMs(SHARD_INDEX)),
+                    TimeUnit.MILLISECONDS.toSeconds(plan.makespanMs()));
+            return plan;
+        }
+
+        private void record(String unitKey, long startNanos) {
+            measured.merge(unitKey, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), Long::sum);
+        }
+
+        @Override
+        public void close() {
+            if (measured.isEmpty()) {
+                return;
+            }
+            Path file = SHARD_COUNT > 1 ? SHARD_DIR.resolve("timings-" + SHARD_INDEX + ".properties") : TIMINGS_FILE;
+            try {
+                if (SHARD_COUNT > 1) {
+                    ShardTimings.write(file, measured);
+                } else {
+                    ShardTimings.merge(file, measured);
+                }
+                logger.info("Shard {}/{} ran {} unit(s) in {} s; durations written to {}", SHARD_INDEX, SHARD_COUNT,
+                        measured.size(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started), file);
+            } catch (IOException e) {
+                logger.warn("Failed to write test durations to {}", file, e);
+            }
+        }
+    }
+}
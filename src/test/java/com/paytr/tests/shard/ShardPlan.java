@@ -0,0 +1,256 @@
+package com.paytr.tests.shard;
+
+import com.paytr.tests.DependsOn;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test birimlerini geçmiş sürelerine göre shard'lara dağıtan plan (LPT: en uzun iş önce).
+ * Birimler süreye göre azalan sırada, o ana kadar en az yüklenmiş shard'a atanır.
+ *
+ * <ul>
+ *     <li>Sıralı zincirler ({@link TestMethodOrder} veya {@link DependsOn} içeren sınıflar) tek birimdir ve
+ *     bütünüyle aynı shard'da çalışır.</li>
+ *     <li>Diğer sınıfların her test metodu ayrı bir birimdir.</li>
+ *     <li>Süresi bilinmeyen birim için ölçülen birimlerin medyanı kullanılır.</li>
+ *     <li>{@link ShardExtension} kullanmayan sınıflar (ör. tarayıcısız birim testleri) her shard'da çalıştığı
+ *     için plana katılmaz.</li>
+ * </ul>
+ *
+ * Plan yalnızca derlenmiş test sınıflarına ve süre dosyasına bağlıdır; aynı girdilerle her JVM ve her makine
+ * aynı dağıtımı hesaplar.
+ */
+final class ShardPlan {
+
+    private static final long DEFAULT_ESTIMATE_MS = 30_000;
+
+    private final int count;
+    private final Map<String, Integer> shardByUnit = new HashMap<>();
+    private final Map<String, List<Integer>> shardsByClass = new HashMap<>();
+    private final long[] plannedMs;
+    private final int[] unitCounts;
+
+    private ShardPlan(int count) {
+        this.count = count;
+        this.plannedMs = new long[count + 1];
+        this.unitCounts = new int[count + 1];
+    }
+
+    /**
+     * Derlenmiş test sınıfları dizinindeki {@code *Test} sınıflarını (surefire include deseni) bulup planlar.
+     */
+    static ShardPlan create(Path testClassesRoot, ClassLoader loader, Map<String, Long> timings, int count)
+            throws IOException {
+        List<Class<?>> testClasses = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(testClassesRoot)) {
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                String relative = testClassesRoot.relativize(file).toString().replace('\\', '/');
+                if (!relative.endsWith("Test.class") || relative.contains("$")) {
+                    continue;
+                }
+                String className = relative.substring(0, relative.length() - ".class".length()).replace('/', '.');
+                try {
+                    testClasses.add(Class.forName(className, false, loader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // test sınıfı olarak yüklenemeyenler planlanmaz
+                }
+            }
+        }
+        return create(testClasses, timings, count);
+    }
+
+    static ShardPlan create(List<Class<?>> testClasses, Map<String, Long> timings, int count) {
+        List<Unit> units = new ArrayList<>();
+        for (Class<?> testClass : testClasses) {
+            if (Modifier.isAbstract(testClass.getModifiers()) || !isSharded(testClass)
+                    || !isStaticallyEnabled(testClass)) {
+                continue;
+            }
+            List<Method> methods = testMethods(testClass);
+            if (methods.isEmpty()) {
+                continue;
+            }
+            if (isChain(testClass)) {
+                units.add(new Unit(testClass.getName(), testClass.getName(), estimateChain(testClass, methods, timings)));
+            } else {
+                for (Method method : methods) {
+                    String key = unitKey(testClass, method);
+                    Long known = timings.get(key);
+                    Long classTotal = timings.get(testClass.getName());
+                    units.add(new Unit(key, testClass.getName(),
+                            known != null ? known : classTotal != null ? classTotal / methods.size() : -1));
+                }
+            }
+        }
+
+        long fallback = median(units);
+        for (Unit unit : units) {
+            if (unit.estimateMs < 0) {
+                unit.estimateMs = fallback;
+            }
+        }
+        units.sort((a, b) -> a.estimateMs != b.estimateMs
+                ? Long.compare(b.estimateMs, a.estimateMs) : a.key.compareTo(b.key));
+
+        ShardPlan plan = new ShardPlan(count);
+        for (Unit unit : units) {
+            int shard = 1;
+            for (int candidate = 2; candidate <= count; candidate++) {
+                if (plan.plannedMs[candidate] < plan.plannedMs[shard]) {
+                    shard = candidate;
+                }
+            }
+            plan.plannedMs[shard] += unit.estimateMs;
+            plan.unitCounts[shard]++;
+            plan.shardByUnit.put(unit.key, shard);
+            plan.shardsByClass.computeIfAbsent(unit.className, key -> new ArrayList<>()).add(shard);
+        }
+        return plan;
+    }
+
+    /**
+     * Birimin atandığı shard (1 tabanlı). Planda olmayan birimler (ör. keşfedilemeyen sınıflar)
+     * adlarının hash değerine göre, yine her JVM'de aynı shard'a düşer.
+     */
+    int shardOf(String unitKey) {
+        Integer shard = shardByUnit.get(unitKey);
+        return shard != null ? shard : Math.floorMod(unitKey.hashCode(), count) + 1;
+    }
+
+    /**
+     * Sınıfın en az bir biriminin verilen shard'da çalışıp çalışmadığı.
+     */
+    boolean runsIn(Class<?> testClass, int shard) {
+        List<Integer> shards = shardsByClass.get(testClass.getName());
+        return shards != null ? shards.contains(shard) : shardOf(testClass.getName()) == shard;
+    }
+
+    long plannedMs(int shard) {
+        return plannedMs[shard];
+    }
+
+    int unitCount(int shard) {
+        return unitCounts[shard];
+    }
+
+    /**
+     * Planın en uzun shard süresi (makespan).
+     */
+    long makespanMs() {
+        long max = 0;
+        for (int shard = 1; shard <= count; shard++) {
+            max = Math.max(max, plannedMs[shard]);
+        }
+        return max;
+    }
+
+    /**
+     * Sıralı zincir olan sınıflar tek birim olarak planlanır ve ölçülür.
+     */
+    static boolean isChain(Class<?> testClass) {
+        if (AnnotationSupport.isAnnotated(testClass, TestMethodOrder.class)) {
+            return true;
+        }
+        for (Method method : testMethods(testClass)) {
+            if (AnnotationSupport.isAnnotated(method, DependsOn.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String unitKey(Class<?> testClass, Method method) {
+        return isChain(testClass) ? testClass.getName() : testClass.getName() + "#" + method.getName();
+    }
+
+    private static List<Method> testMethods(Class<?> testClass) {
+        return ReflectionSupport.findMethods(testClass,
+                method -> AnnotationSupport.isAnnotated(method, Testable.class), HierarchyTraversalMode.TOP_DOWN);
+    }
+
+    private static boolean isSharded(Class<?> testClass) {
+        for (ExtendWith extendWith : AnnotationSupport.findRepeatableAnnotations(testClass, ExtendWith.class)) {
+            if (Arrays.asList(extendWith.value()).contains(ShardExtension.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sistem özelliğine bağlı sınıflar (ör. {@code scenario.submissions} ile açılan yük testi)
+     * bu koşuda çalışmayacaksa plana katılmaz.
+     */
+    private static boolean isStaticallyEnabled(Class<?> testClass) {
+        Optional<EnabledIfSystemProperty> condition =
+                AnnotationSupport.findAnnotation(testClass, EnabledIfSystemProperty.class);
+        if (!condition.isPresent()) {
+            return true;
+        }
+        String value = System.getProperty(condition.get().named());
+        return value != null && value.matches(condition.get().matches());
+    }
+
+    private static long estimateChain(Class<?> testClass, List<Method> methods, Map<String, Long> timings) {
+        Long known = timings.get(testClass.getName());
+        if (known != null) {
+            return known;
+        }
+        long sum = 0;
+        boolean found = false;
+        for (Method method : methods) {
+            Long methodMs = timings.get(testClass.getName() + "#" + method.getName());
+            if (methodMs != null) {
+                sum += methodMs;
+                found = true;
+            }
+        }
+        return found ? sum : -1;
+    }
+
+    private static long median(List<Unit> units) {
+        List<Long> known = new ArrayList<>();
+        for (Unit unit : units) {
+            if (unit.estimateMs >= 0) {
+                known.add(unit.estimateMs);
+            }
+        }
+        if (known.isEmpty()) {
+            return DEFAULT_ESTIMATE_MS;
+        }
+        Collections.sort(known);
+        return known.get(known.size() / 2);
+    }
+
+    private static final class Unit {
+        private final String key;
+        private final String className;
+        private long estimateMs;
+
+        private Unit(String key, String className, long estimateMs) {
+            this.key = key;
+            this.className = className;
+            this.estimateMs = estimateMs;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.paytr.tests.shard;
+
+import com.paytr.tests.DependsOn;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ShardPlan} dağıtım kurallarının tarayıcı gerektirmeyen birim testleri.
+ */
+public class ShardPlanTest {
+
+    private static final List<Class<?>> CLASSES = Arrays.<Class<?>>asList(
+            OrderedChain.class, DependentChain.class, Independent.class, NotSharded.class);
+
+    @Test
+    public void chainsAreSingleUnitsOnOneShard() {
+        ShardPlan plan = ShardPlan.create(CLASSES, timings(), 3);
+
+        for (Class<?> chain : Arrays.<Class<?>>asList(OrderedChain.class, DependentChain.class)) {
+            int shards = 0;
+            for (int shard = 1; shard <= 3; shard++) {
+                if (plan.runsIn(chain, shard)) {
+                    shards++;
+                }
+            }
+            assertEquals(1, shards, chain.getSimpleName() + " must run on exactly one shard");
+        }
+        assertTrue(ShardPlan.isChain(DependentChain.class));
+        assertFalse(ShardPlan.isChain(Independent.class));
+    }
+
+    @Test
+    public void longestUnitsArePlacedFirstOnTheLeastLoadedShard() {
+        // 100 -> 1, 60 -> 2, 50 -> 2 (110), 40 -> 1 (140), 30 -> 2 (140)
+        ShardPlan plan = ShardPlan.create(CLASSES, timings(), 2);
+
+        assertEquals(140, plan.plannedMs(1));
+        assertEquals(140, plan.plannedMs(2));
+        assertEquals(140, plan.makespanMs());
+        assertEquals(plan.shardOf(OrderedChain.class.getName()), plan.shardOf(key(Independent.class, "third")));
+        assertEquals(plan.shardOf(key(Independent.class, "first")), plan.shardOf(key(Independent.class, "second")));
+    }
+
+    @Test
+    public void everyShardComputesTheSamePlan() {
+        List<Class<?>> reversed = new ArrayList<>(CLASSES);
+        Collections.reverse(reversed);
+        ShardPlan plan = ShardPlan.create(CLASSES, timings(), 3);
+        ShardPlan otherJvm = ShardPlan.create(reversed, new HashMap<>(timings()), 3);
+
+        for (String unit : Arrays.asList(OrderedChain.class.getName(), DependentChain.class.getName(),
+                key(Independent.class, "first"), key(Independent.class, "second"), key(Independent.class, "third"))) {
+            assertEquals(plan.shardOf(unit), otherJvm.shardOf(unit), unit);
+        }
+        for (int shard = 1; shard <= 3; shard++) {
+            assertEquals(plan.plannedMs(shard), otherJvm.plannedMs(shard));
+        }
+    }
+
+    @Test
+    public void unknownUnitsUseTheMedianOfKnownDurations() {
+        Map<String, Long> timings = timings();
+        timings.remove(key(Independent.class, "third"));
+        ShardPlan plan = ShardPlan.create(CLASSES, timings, 1);
+
+        // bilinenler: 100, 60, 50, 30 -> medyan 60
+        assertEquals(100 + 60 + 50 + 30 + 60, plan.plannedMs(1));
+    }
+
+    @Test
+    public void classesWithoutShardExtensionAreNotPlanned() {
+        ShardPlan plan = ShardPlan.create(Collections.<Class<?>>singletonList(NotSharded.class), timings(), 2);
+
+        assertEquals(0, plan.unitCount(1) + plan.unitCount(2));
+    }
+
+    private static Map<String, Long> timings() {
+        Map<String, Long> timings = new HashMap<>();
+        timings.put(OrderedChain.class.getName(), 100L);
+        timings.put(DependentChain.class.getName(), 30L);
+        timings.put(key(Independent.class, "first"), 60L);
+        timings.put(key(Independent.class, "second"), 50L);
+        timings.put(key(Independent.class, "third"), 40L);
+        timings.put(key(NotSharded.class, "only"), 1000L);
+        return timings;
+    }
+
+    private static String key(Class<?> testClass, String method) {
+        return testClass.getName() + "#" + method;
+    }
+
+    @ExtendWith(ShardExtension.class)
+    @TestMethodOrder(MethodOrderer.MethodName.class)
+    static class OrderedChain {
+        @Test
+        void first() {
+        }
+
+        @Test
+        void second() {
+        }
+    }
+
+    @ExtendWith(ShardExtension.class)
+    static class DependentChain {
+        @Test
+        void first() {
+        }
+
+        @Test
+        @DependsOn("first")
+        void second() {
+        }
+    }
+
+    @ExtendWith(ShardExtension.class)
+    static class Independent {
+        @Test
+        void first() {
+        }
+
+        @Test
+        void second() {
+        }
+
+        @Test
+        void third() {
+        }
+    }
+
+    static class NotSharded {
+        @Test
+        void only() {
+        }
+    }
+}
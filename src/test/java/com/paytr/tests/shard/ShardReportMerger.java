@@ -0,0 +1,208 @@
+package com.paytr.tests.shard;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shard'ların surefire raporlarını tek bir rapor dizininde birleştirir ve ölçülen süreleri süre dosyasına işler.
+ * scripts/run-shards.sh tarafından tüm shard'lar bittikten sonra çağrılır; farklı makinelerde koşan shard'ların
+ * {@code shard-N} dizinleri ve {@code timings-N.properties} dosyaları tek dizinde toplanarak da kullanılabilir.
+ *
+ * <pre>
+ * java -cp target/test-classes com.paytr.tests.shard.ShardReportMerger [shardDir] [timingsFile] [reportsDir]
+ * </pre>
+ *
+ * Başka bir shard'a ait olduğu için atlanan testler birleştirilmiş rapora yazılmaz. Bağımlılık gerektirmez;
+ * yalnızca JDK ile çalışır.
+ */
+public final class ShardReportMerger {
+
+    private ShardReportMerger() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path shardDir = Paths.get(args.length > 0 ? args[0] : "target/shards");
+        Path timingsFile = Paths.get(args.length > 1 ? args[1] : "shard-timings.properties");
+        Path reportsDir = Paths.get(args.length > 2 ? args[2] : "target/surefire-reports");
+
+        List<Path> shards = list(shardDir, "shard-", true);
+        if (shards.isEmpty()) {
+            System.err.println("No shard directories found in " + shardDir);
+            System.exit(1);
+        }
+
+        DocumentBuilder builder = newDocumentBuilder();
+        Map<String, Document> merged = new TreeMap<>();
+        double makespan = 0;
+        for (Path shard : shards) {
+            Totals totals = new Totals();
+            for (Path report : list(shard.resolve("surefire-reports"), "TEST-", false)) {
+                Document document = parse(builder, report);
+                Element suite = document.getDocumentElement();
+                removeOtherShardSkips(suite);
+                totals.add(suite);
+                Document target = merged.get(report.getFileName().toString());
+                if (target == null) {
+                    merged.put(report.getFileName().toString(), document);
+                } else {
+                    for (Element testCase : testCases(suite)) {
+                        target.getDocumentElement().appendChild(target.importNode(testCase, true));
+                    }
+                }
+            }
+            makespan = Math.max(makespan, totals.seconds);
+            System.out.println(shard.getFileName() + ": " + totals);
+        }
+
+        Files.createDirectories(reportsDir);
+        Totals overall = new Totals();
+        for (Map.Entry<String, Document> entry : merged.entrySet()) {
+            Element suite = entry.getValue().getDocumentElement();
+            if (testCases(suite).isEmpty()) {
+                continue;
+            }
+            recount(suite);
+            overall.add(suite);
+            write(entry.getValue(), reportsDir.resolve(entry.getKey()));
+        }
+        System.out.println("merged: " + overall + " -> " + reportsDir);
+        System.out.println(String.format(Locale.ROOT, "makespan: %.1f s across %d shard(s), %.1f s of test time",
+                makespan, shards.size(), overall.seconds));
+
+        Map<String, Long> measured = new TreeMap<>();
+        for (Path timings : list(shardDir, "timings-", false)) {
+            measured.putAll(ShardTimings.read(timings));
+        }
+        if (!measured.isEmpty()) {
+            ShardTimings.merge(timingsFile, measured);
+            System.out.println("Updated " + measured.size() + " duration(s) in " + timingsFile);
+        }
+    }
+
+    /**
+     * Yalnızca başka bir shard'da çalıştığı için atlanan test kayıtlarını siler.
+     */
+    private static void removeOtherShardSkips(Element suite) {
+        for (Element testCase : testCases(suite)) {
+            NodeList skipped = testCase.getElementsByTagName("skipped");
+            if (skipped.getLength() > 0 && ((Element) skipped.item(0)).getAttribute("message")
+                    .startsWith(ShardExtension.SKIP_REASON_PREFIX)) {
+                suite.removeChild(testCase);
+            }
+        }
+    }
+
+    private static void recount(Element suite) {
+        Totals totals = new Totals();
+        totals.add(suite);
+        suite.setAttribute("tests", Integer.toString(totals.tests));
+        suite.setAttribute("failures", Integer.toString(totals.failures));
+        suite.setAttribute("errors", Integer.toString(totals.errors));
+        suite.setAttribute("skipped", Integer.toString(totals.skipped));
+        suite.setAttribute("time", String.format(Locale.ROOT, "%.3f", totals.seconds));
+    }
+
+    private static List<Element> testCases(Element suite) {
+        List<Element> testCases = new ArrayList<>();
+        for (Node node = suite.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element && "testcase".equals(node.getNodeName())) {
+                testCases.add((Element) node);
+            }
+        }
+        return testCases;
+    }
+
+    private static List<Path> list(Path directory, String prefix, boolean directories) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> directories ? Files.isDirectory(path) : Files.isRegularFile(path))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static DocumentBuilder newDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        return factory.newDocumentBuilder();
+    }
+
+    private static Document parse(DocumentBuilder builder, Path report) throws IOException {
+        try {
+            return builder.parse(report.toFile());
+        } catch (SAXException e) {
+            throw new IOException("Failed to parse surefire report: " + report, e);
+        }
+    }
+
+    private static void write(Document document, Path file) throws IOException {
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.transform(new DOMSource(document), new StreamResult(file.toFile()));
+        } catch (TransformerException e) {
+            throw new IOException("Failed to write merged report: " + file, e);
+        }
+    }
+
+    private static final class Totals {
+        private int tests;
+        private int failures;
+        private int errors;
+        private int skipped;
+        private double seconds;
+
+        private void add(Element suite) {
+            for (Element testCase : testCases(suite)) {
+                tests++;
+                if (testCase.getElementsByTagName("failure").getLength() > 0) {
+                    failures++;
+                }
+                if (testCase.getElementsByTagName("error").getLength() > 0) {
+                    errors++;
+                }
+                if (testCase.getElementsByTagName("skipped").getLength() > 0) {
+                    skipped++;
+                }
+                try {
+                    seconds += Double.parseDouble(testCase.getAttribute("time").replace(",", ""));
+                } catch (NumberFormatException e) {
+                    // süresi olmayan kayıt
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d test(s), %d failure(s), %d error(s), %d skipped, %.1f s",
+                    tests, failures, errors, skipped, seconds);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.paytr.tests.shard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Test birimlerinin geçmiş sürelerini tutan dosya. Satır biçimi: {@code birim=süreMs}; birim bir test sınıfı
+ * ({@code com.paytr.tests.PayWithLinksTest}) veya tek bir metot ({@code com.paytr.tests.XTest#testY}) olabilir.
+ * Anahtarlar sıralı yazılır, böylece dosya depoya eklendiğinde farkları okunabilir kalır.
+ */
+final class ShardTimings {
+
+    private static final String HEADER = "# Test unit durations (ms) used to balance shards. Updated after each run.\n";
+
+    private ShardTimings() {
+    }
+
+    /**
+     * Dosyadaki süreleri okur; dosya yoksa boş döner.
+     */
+    static Map<String, Long> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new TreeMap<>();
+        }
+        return parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Süreleri dosyanın üzerine yazar.
+     */
+    static void write(Path file, Map<String, Long> timings) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, format(timings).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Yeni ölçümleri dosya kilidi altında mevcut sürelerle birleştirir. Daha önce ölçülmüş birimlerde eski ve yeni
+     * sürenin ortalaması alınır; tek bir yavaş koşu planı bir anda bozmaz.
+     *
+     * @return birleştirilmiş süreler
+     */
+    static Map<String, Long> merge(Path file, Map<String, Long> measured) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+                // dosyanın tamamı okunana kadar devam
+            }
+            Map<String, Long> timings = parse(new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+            for (Map.Entry<String, Long> entry : measured.entrySet()) {
+                timings.merge(entry.getKey(), entry.getValue(), (previous, current) -> (previous + current) / 2);
+            }
+
+            ByteBuffer bytes = ByteBuffer.wrap(format(timings).getBytes(StandardCharsets.UTF_8));
+            channel.truncate(0);
+            long position = 0;
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes, position);
+            }
+            return timings;
+        }
+    }
+
+    private static Map<String, Long> parse(String content) {
+        Map<String, Long> timings = new TreeMap<>();
+        for (String line : content.split("\n")) {
+            line = line.trim();
+            int separator = line.lastIndexOf('=');
+            if (line.isEmpty() || line.startsWith("#") || separator < 1) {
+                continue;
+            }
+            try {
+                timings.put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1).trim()));
+            } catch (NumberFormatException e) {
+                // bozuk satırlar yok sayılır
+            }
+        }
+        return timings;
+    }
+
+    private static String format(Map<String, Long> timings) {
+        StringBuilder content = new StringBuilder(HEADER);
+        for (Map.Entry<String, Long> entry : new TreeMap<>(timings).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return content.toString();
+    }
+}
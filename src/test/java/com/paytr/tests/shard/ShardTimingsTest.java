@@ -0,0 +1,70 @@
+package com.paytr.tests.shard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ShardTimings} dosya biçimi ve birleştirme kurallarının birim testleri.
+ */
+public class ShardTimingsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void missingFileReadsAsEmpty() throws IOException {
+        assertTrue(ShardTimings.read(directory.resolve("missing.properties")).isEmpty());
+    }
+
+    @Test
+    public void mergeAveragesKnownUnitsAndAddsNewOnes() throws IOException {
+        Path file = directory.resolve("timings.properties");
+        Map<String, Long> previous = new HashMap<>();
+        previous.put("com.paytr.tests.ATest", 1000L);
+        previous.put("com.paytr.tests.BTest#testX", 200L);
+        ShardTimings.write(file, previous);
+
+        Map<String, Long> measured = new HashMap<>();
+        measured.put("com.paytr.tests.ATest", 3000L);
+        measured.put("com.paytr.tests.CTest#testY", 50L);
+        Map<String, Long> merged = ShardTimings.merge(file, measured);
+
+        assertEquals(Long.valueOf(2000), merged.get("com.paytr.tests.ATest"));
+        assertEquals(Long.valueOf(200), merged.get("com.paytr.tests.BTest#testX"));
+        assertEquals(Long.valueOf(50), merged.get("com.paytr.tests.CTest#testY"));
+        assertEquals(merged, ShardTimings.read(file));
+    }
+
+    @Test
+    public void mergeCreatesTheFileWithSortedKeys() throws IOException {
+        Path file = directory.resolve("nested/timings.properties");
+        Map<String, Long> measured = new HashMap<>();
+        measured.put("b", 2L);
+        measured.put("a", 1L);
+        ShardTimings.merge(file, measured);
+
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(content.startsWith("#"), "header comment expected");
+        assertTrue(content.indexOf("a=1") < content.indexOf("b=2"), "keys must be written in order");
+    }
+
+    @Test
+    public void malformedLinesAreIgnored() throws IOException {
+        Path file = directory.resolve("timings.properties");
+        Files.write(file, "# comment\nbroken\nx=notANumber\ncom.paytr.tests.ATest=42\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Collections.singletonMap("com.paytr.tests.ATest", 42L), ShardTimings.read(file));
+    }
+}
@@ -0,0 +1,54 @@
+package com.paytr.wait;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link UrlMatch} karşılaştırma modlarının birim testleri.
+ */
+public class UrlMatchTest {
+
+    @Test
+    public void exactRequiresIdenticalUrl() {
+        UrlMatch match = UrlMatch.exact("https://www.paytr.com/uye-isyeri-olun");
+
+        assertTrue(match.matches("https://www.paytr.com/uye-isyeri-olun"));
+        assertFalse(match.matches("https://www.paytr.com/uye-isyeri-olun/"));
+        assertFalse(match.matches(null));
+    }
+
+    @Test
+    public void prefixMatchesTheStartOfTheUrl() {
+        UrlMatch match = UrlMatch.prefix("https://www.paytr.com/uye-isyeri-olun");
+
+        assertTrue(match.matches("https://www.paytr.com/uye-isyeri-olun?utm=x"));
+        assertFalse(match.matches("https://www.paytr.com/linkle-odeme"));
+    }
+
+    @Test
+    public void regexMustMatchTheWholeUrl() {
+        UrlMatch match = UrlMatch.regex("https://www\\.paytr\\.com/basvuru/\\d+");
+
+        assertTrue(match.matches("https://www.paytr.com/basvuru/42"));
+        assertFalse(match.matches("https://www.paytr.com/basvuru/42/ozet"));
+    }
+
+    @Test
+    public void normalizedIgnoresCaseDefaultPortTrailingSlashQueryAndFragment() {
+        UrlMatch match = UrlMatch.normalized("https://www.paytr.com/uye-isyeri-olun");
+
+        assertTrue(match.matches("HTTPS://WWW.PayTR.com:443/uye-isyeri-olun/?ref=home#form"));
+        assertFalse(match.matches("https://www.paytr.com:8443/uye-isyeri-olun"));
+        assertFalse(match.matches("https://www.paytr.com/Uye-Isyeri-Olun"));
+    }
+
+    @Test
+    public void normalizeKeepsNonDefaultPortsAndUnparsableValues() {
+        assertEquals("http://127.0.0.1:8080/linkle-odeme", UrlMatch.normalize("http://127.0.0.1:8080/linkle-odeme//"));
+        assertEquals("http://localhost", UrlMatch.normalize("http://localhost:80/"));
+        assertEquals("not a url", UrlMatch.normalize("not a url"));
+    }
+}